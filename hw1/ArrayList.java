@@ -1,3 +1,16 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Your implementation of an ArrayList.
  * 
@@ -5,7 +18,7 @@
  * @userid abdullojony
  * @version 1.0
  */
-public class ArrayList<T> {
+public class ArrayList<T> implements Iterable<T> {
 
     // Do not add new instance variables.
     private T[] backingArray;
@@ -18,6 +31,12 @@ public class ArrayList<T> {
      */
     public static final int INITIAL_CAPACITY = 9;
 
+    /**
+     * The size above which indexOf, lastIndexOf and count split the scan
+     * into fork-join tasks. Below it a single-threaded scan is faster.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+
     /**
      * Constructs a new ArrayList.
      *
@@ -53,9 +72,8 @@ public class ArrayList<T> {
 
         if (index < size) {
             // shift elements by 1 position
-            for (int j = size; j > index; j--) {
-                backingArray[j] = backingArray[j - 1];
-            }
+            System.arraycopy(backingArray, index, backingArray, index + 1,
+                    size - index);
         }
 
         backingArray[index] = data;
@@ -69,12 +87,127 @@ public class ArrayList<T> {
      */
     private void resizeArray(int capacity) {
         T[] newArray = (T[]) new Object[capacity];
-        for (int i = 0; i < size; i++) {
-            newArray[i] = backingArray[i];
-        }
+        System.arraycopy(backingArray, 0, newArray, 0, size);
         backingArray = newArray;
     }
 
+    /**
+     * Adds all of the given elements to the list, starting at the index
+     * specified and keeping their order.
+     *
+     * The backing array is resized at most once and the tail of the list is
+     * shifted with a single block move, so this is O(n + k) where k is the
+     * number of elements added.
+     *
+     * @param index the index where the first new element should go
+     * @param data the elements to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     * @throws IllegalArgumentException if data or any of its elements is null
+     */
+    public void addAll(int index, T[] data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+        for (T element : data) {
+            if (element == null) throw new IllegalArgumentException();
+        }
+
+        int count = data.length;
+        openGap(index, count);
+        System.arraycopy(data, 0, backingArray, index, count);
+        size += count;
+    }
+
+    /**
+     * Adds all of the elements of the given collection to the list, starting
+     * at the index specified and keeping the collection's iteration order.
+     *
+     * Must be O(n + k) where k is the number of elements added.
+     *
+     * @param index the index where the first new element should go
+     * @param data the elements to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     * @throws IllegalArgumentException if data or any of its elements is null
+     */
+    public void addAll(int index, Collection<? extends T> data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+
+        addAll(index, (T[]) data.toArray());
+    }
+
+    /**
+     * Makes room for count elements at index, growing the backing array at
+     * most once and shifting the tail with a single block move.
+     *
+     * @param index the index where the gap should start
+     * @param count the number of slots to open
+     */
+    private void openGap(int index, int count) {
+        if (count == 0) return;
+        if (size + count > backingArray.length) {
+            int capacity = Math.max(backingArray.length * 2, size + count);
+            T[] newArray = (T[]) new Object[capacity];
+            System.arraycopy(backingArray, 0, newArray, 0, index);
+            System.arraycopy(backingArray, index, newArray, index + count,
+                    size - index);
+            backingArray = newArray;
+        } else {
+            System.arraycopy(backingArray, index, backingArray, index + count,
+                    size - index);
+        }
+    }
+
+    /**
+     * Removes all elements whose index is between from, inclusive, and to,
+     * exclusive.
+     *
+     * The tail of the list is shifted with a single block move and only the
+     * slots vacated at the end of the list are nulled out.
+     *
+     * Must be O(n).
+     *
+     * @param from the index of the first element to remove
+     * @param to the index after the last element to remove
+     * @throws IndexOutOfBoundsException if from < 0, to > size or from > to
+     */
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        System.arraycopy(backingArray, to, backingArray, from, size - to);
+        int newSize = size - (to - from);
+        Arrays.fill(backingArray, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Grows the backing array, if necessary, so it can hold at least the
+     * given number of elements without another resize.
+     *
+     * @param capacity the minimum capacity required
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > backingArray.length) {
+            resizeArray(capacity);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the list. An empty list is
+     * reset to the initial capacity instead, since a zero-length array
+     * could not be doubled on the next add.
+     */
+    public void trimToSize() {
+        if (size == 0) {
+            clear();
+        } else if (size < backingArray.length) {
+            resizeArray(size);
+        }
+    }
+
     /**
      * Adds the given data to the front of your array list.
      *
@@ -119,9 +252,8 @@ public class ArrayList<T> {
 
         T data = backingArray[index];
         // shift elements by 1 position
-        for (int i = index; i < size - 1; i++) {
-            backingArray[i] = backingArray[i + 1];
-        }
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
 
         backingArray[--size] = null;
         return data;
@@ -177,6 +309,7 @@ public class ArrayList<T> {
      * should be used.
      *
      * Must be O(n), but consider which end of the ArrayList to start from.
+     * Lists larger than {@code PARALLEL_THRESHOLD} are searched in parallel.
      *
      * @param data the data to find the last index of
      * @return the last index of the data or -1 if the data is not in the list
@@ -184,12 +317,273 @@ public class ArrayList<T> {
      */
     public int lastIndexOf(T data) {
         if (data == null) throw new IllegalArgumentException();
+        if (size > PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(
+                    new SearchTask<>(backingArray, 0, size, data, true));
+        }
         for (int i = size - 1; i >= 0; i--) {
             if (backingArray[i].equals(data)) return i;
         }
         return -1;
     }
 
+    /**
+     * Finds the index at which the given data is first located in the
+     * ArrayList.
+     *
+     * Lists larger than {@code PARALLEL_THRESHOLD} are searched in parallel.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to find the first index of
+     * @return the first index of the data or -1 if the data is not in the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public int indexOf(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        if (size > PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(
+                    new SearchTask<>(backingArray, 0, size, data, false));
+        }
+        for (int i = 0; i < size; i++) {
+            if (backingArray[i].equals(data)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the elements of the list that match the given predicate.
+     *
+     * Lists larger than {@code PARALLEL_THRESHOLD} are scanned in parallel,
+     * so the predicate must be safe to call from several threads.
+     *
+     * Must be O(n).
+     *
+     * @param predicate the condition to test each element with
+     * @return the number of matching elements
+     * @throws IllegalArgumentException if predicate is null
+     */
+    public int count(Predicate<? super T> predicate) {
+        if (predicate == null) throw new IllegalArgumentException();
+        if (size > PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(
+                    new CountTask<>(backingArray, 0, size, predicate));
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(backingArray[i])) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Fork-join task finding the first or last index of some data within a
+     * range of an array.
+     *
+     * All tasks of one search share the best index found so far. A task
+     * whose range cannot beat it returns at once, so a match near the
+     * searched end cuts the rest of the search short.
+     *
+     * @param <T> the type of data in the array
+     */
+    private static class SearchTask<T> extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] array;
+        private final int from;
+        private final int to;
+        private final T data;
+        private final boolean last;
+        // the smallest (or, when searching for the last, the largest)
+        // matching index found by any task of this search
+        private final AtomicInteger found;
+
+        /**
+         * Creates a task searching array between from, inclusive, and to,
+         * exclusive.
+         *
+         * @param array the array to search
+         * @param from the first index to search
+         * @param to the index after the last one to search
+         * @param data the data to search for
+         * @param last true to find the last index, false for the first
+         */
+        SearchTask(T[] array, int from, int to, T data, boolean last) {
+            this(array, from, to, data, last,
+                    new AtomicInteger(last ? -1 : Integer.MAX_VALUE));
+        }
+
+        /**
+         * Creates a subtask sharing the best index found so far.
+         *
+         * @param array the array to search
+         * @param from the first index to search
+         * @param to the index after the last one to search
+         * @param data the data to search for
+         * @param last true to find the last index, false for the first
+         * @param found the best index found so far by the whole search
+         */
+        private SearchTask(T[] array, int from, int to, T data, boolean last,
+                           AtomicInteger found) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.data = data;
+            this.last = last;
+            this.found = found;
+        }
+
+        @Override
+        protected Integer compute() {
+            // a match already found further towards the searched end wins
+            if (last ? found.get() >= to - 1 : found.get() <= from) return -1;
+
+            if (to - from <= PARALLEL_THRESHOLD) {
+                if (last) {
+                    for (int i = to - 1; i >= from; i--) {
+                        if (array[i].equals(data)) {
+                            found.accumulateAndGet(i, Math::max);
+                            return i;
+                        }
+                    }
+                } else {
+                    for (int i = from; i < to; i++) {
+                        if (array[i].equals(data)) {
+                            found.accumulateAndGet(i, Math::min);
+                            return i;
+                        }
+                    }
+                }
+                return -1;
+            }
+
+            int mid = (from + to) >>> 1;
+            SearchTask<T> left =
+                new SearchTask<>(array, from, mid, data, last, found);
+            SearchTask<T> right =
+                new SearchTask<>(array, mid, to, data, last, found);
+            // scan the half nearer the searched end first, so that a match
+            // there lets the other half skip its work
+            if (last) {
+                left.fork();
+                int r = right.compute();
+                int l = left.join();
+                return r != -1 ? r : l;
+            }
+            right.fork();
+            int l = left.compute();
+            int r = right.join();
+            return l != -1 ? l : r;
+        }
+    }
+
+    /**
+     * Fork-join task counting the elements within a range of an array that
+     * match a predicate.
+     *
+     * @param <T> the type of data in the array
+     */
+    private static class CountTask<T> extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] array;
+        private final int from;
+        private final int to;
+        private final Predicate<? super T> predicate;
+
+        /**
+         * Creates a task counting matches between from, inclusive, and to,
+         * exclusive.
+         *
+         * @param array the array to scan
+         * @param from the first index to scan
+         * @param to the index after the last one to scan
+         * @param predicate the condition to test each element with
+         */
+        CountTask(T[] array, int from, int to,
+                  Predicate<? super T> predicate) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(array[i])) count++;
+                }
+                return count;
+            }
+
+            int mid = (from + to) >>> 1;
+            CountTask<T> left = new CountTask<>(array, from, mid, predicate);
+            left.fork();
+            int r = new CountTask<>(array, mid, to, predicate).compute();
+            return left.join() + r;
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements of the list, front to back.
+     *
+     * The iterator does not detect concurrent modification of the list.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return backingArray[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator over the elements currently in the list.
+     *
+     * The spliterator is SIZED, SUBSIZED, ORDERED and NONNULL, and splits
+     * the backing array evenly, which makes the list a good parallel stream
+     * source.
+     *
+     * @return a spliterator over the list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(backingArray, 0, size,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of the list.
+     *
+     * @return a stream over the list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements of the list.
+     *
+     * @return a parallel stream over the list
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Returns a boolean value representing whether or not the list is empty.
      *
@@ -1,9 +1,23 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * This is a basic set of unit tests for ArrayList. Passing these does
@@ -214,5 +228,335 @@ public class ArrayListStudentTests {
         assertArrayEquals(new Object[ArrayList.INITIAL_CAPACITY],
                 list.getBackingArray());
     }
-    
+
+    @Test(timeout = TIMEOUT)
+    public void testIntArrayList() {
+        IntArrayList ints = new IntArrayList();
+        for (int i = 0; i < 10; i++) {
+            ints.addToBack(i); // 0 1 2 ... 9
+        }
+        ints.addToFront(-1); // -1 0 1 ... 9
+        ints.addAtIndex(5, 42); // -1 0 1 2 3 42 4 ... 9
+
+        assertEquals(12, ints.size());
+        assertEquals(18, ints.getBackingArray().length);
+        assertEquals(-1, ints.get(0));
+        assertEquals(42, ints.get(5));
+        assertEquals(4, ints.get(6));
+        assertEquals(5, ints.lastIndexOf(42));
+        assertEquals(-1, ints.lastIndexOf(100));
+
+        assertEquals(42, ints.removeAtIndex(5));
+        assertEquals(-1, ints.removeFromFront());
+        assertEquals(9, ints.removeFromBack());
+        assertEquals(9, ints.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i, ints.get(i));
+        }
+        assertEquals(0, ints.getBackingArray()[9]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLongArrayList() {
+        LongArrayList longs = new LongArrayList();
+        longs.addToBack(Long.MAX_VALUE);
+        longs.addToFront(1L);
+        longs.addAtIndex(1, 2L); // 1 2 MAX
+
+        assertEquals(3, longs.size());
+        assertEquals(2, longs.lastIndexOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, longs.removeFromBack());
+        assertEquals(2L, longs.get(1));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testDoubleArrayList() {
+        DoubleArrayList doubles = new DoubleArrayList();
+        doubles.addToBack(0.5);
+        doubles.addToBack(Double.NaN);
+        doubles.addToBack(0.0);
+
+        assertEquals(1, doubles.lastIndexOf(Double.NaN));
+        assertEquals(2, doubles.lastIndexOf(0.0));
+        assertEquals(-1, doubles.lastIndexOf(-0.0));
+        assertEquals(0.5, doubles.removeFromFront(), 0.0);
+        assertEquals(2, doubles.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBulkAddAndRemoveRange() {
+        list.addToBack("0a");
+        list.addToBack("4a"); // 0a 4a
+        list.addAll(1, new String[] {"1a", "2a", "3a"}); // 0a 1a 2a 3a 4a
+        list.addAll(5, Arrays.asList("5a", "6a", "7a", "8a", "9a"));
+
+        assertEquals(10, list.size());
+        assertEquals(18, list.getBackingArray().length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + "a", list.get(i));
+        }
+
+        list.removeRange(2, 8); // 0a 1a 8a 9a
+        assertEquals(4, list.size());
+        Object[] expected = new Object[18];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "8a";
+        expected[3] = "9a";
+        assertArrayEquals(expected, list.getBackingArray());
+
+        list.trimToSize();
+        assertEquals(4, list.getBackingArray().length);
+        list.ensureCapacity(20);
+        assertEquals(20, list.getBackingArray().length);
+        assertEquals("9a", list.get(3));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testGapArrayListClusteredEdits() {
+        GapArrayList<String> gap = new GapArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            gap.addToBack(i + "a"); // 0a 1a 2a 3a 4a 5a
+        }
+
+        gap.addAtIndex(2, "x"); // 0a 1a x 2a 3a 4a 5a
+        gap.addAtIndex(3, "y"); // 0a 1a x y 2a 3a 4a 5a
+        assertEquals(8, gap.size());
+
+        // The gap should now sit right after "y".
+        Object[] expected = new Object[GapArrayList.INITIAL_CAPACITY];
+        expected[0] = "0a";
+        expected[1] = "1a";
+        expected[2] = "x";
+        expected[3] = "y";
+        expected[5] = "2a";
+        expected[6] = "3a";
+        expected[7] = "4a";
+        expected[8] = "5a";
+        assertArrayEquals(expected, gap.getBackingArray());
+
+        assertEquals("x", gap.removeAtIndex(2)); // 0a 1a y 2a 3a 4a 5a
+        gap.addToFront("f"); // f 0a 1a y 2a 3a 4a 5a
+        gap.addToBack("b"); // f 0a 1a y 2a 3a 4a 5a b
+        gap.addToBack("c"); // resize
+
+        String[] order = {"f", "0a", "1a", "y", "2a", "3a", "4a", "5a", "b",
+            "c"};
+        assertEquals(order.length, gap.size());
+        for (int i = 0; i < order.length; i++) {
+            assertEquals(order[i], gap.get(i));
+        }
+        assertEquals(3, gap.lastIndexOf("y"));
+        assertEquals(9, gap.lastIndexOf("c"));
+        assertEquals(-1, gap.lastIndexOf("x"));
+
+        assertEquals("c", gap.removeFromBack());
+        assertEquals("f", gap.removeFromFront());
+        assertEquals(8, gap.size());
+        int nonNull = 0;
+        for (Object o : gap.getBackingArray()) {
+            if (o != null) nonNull++;
+        }
+        assertEquals(8, nonNull);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testTieredArrayList() {
+        TieredArrayList<Integer> tiered = new TieredArrayList<>();
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int index = (i * 7) % (expected.size() + 1);
+            tiered.addAtIndex(index, i);
+            expected.add(index, i);
+        }
+        tiered.addToFront(-1);
+        expected.add(0, -1);
+
+        assertEquals(expected.size(), tiered.size());
+        assertEquals(16, tiered.getTierSize());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tiered.get(i));
+        }
+        assertEquals(expected.lastIndexOf(250),
+                tiered.lastIndexOf(250));
+
+        while (expected.size() > 1) {
+            int index = expected.size() / 3;
+            assertEquals(expected.remove(index), tiered.removeAtIndex(index));
+        }
+        assertEquals(expected.get(0), tiered.removeFromBack());
+        assertEquals(true, tiered.isEmpty());
+        assertEquals(TieredArrayList.MIN_SHIFT,
+                Integer.numberOfTrailingZeros(tiered.getTierSize()));
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testMappedArrayListReopen() throws IOException {
+        Path file = Files.createTempFile("mapped", ".dat");
+        Files.delete(file);
+        try {
+            int count = MappedArrayList.CHUNK_RECORDS + 10;
+            try (MappedArrayList<Long> mapped =
+                     new MappedArrayList<>(file, MappedArrayList.LONG_CODEC)) {
+                for (long i = 0; i < count; i++) {
+                    mapped.addToBack(i * i);
+                }
+                assertEquals(Long.valueOf((count - 1L) * (count - 1L)),
+                        mapped.removeFromBack());
+            }
+
+            try (MappedArrayList<Long> mapped =
+                     new MappedArrayList<>(file, MappedArrayList.LONG_CODEC)) {
+                assertEquals(count - 1, mapped.size());
+                assertEquals(Long.valueOf(0), mapped.get(0));
+                assertEquals(Long.valueOf(100L * 100L), mapped.get(100));
+                mapped.addToBack(-1L);
+                assertEquals(Long.valueOf(-1L), mapped.get(count - 1));
+            }
+
+            MappedArrayList<Long> closed =
+                new MappedArrayList<>(file, MappedArrayList.LONG_CODEC);
+            try {
+                assertEquals(count, closed.size());
+            } finally {
+                closed.close();
+            }
+            closed.close(); // closing twice has no effect
+            try {
+                closed.get(0);
+                fail();
+            } catch (IllegalStateException e) {
+                // closed
+            }
+
+            // a stored size larger than the file can hold is rejected
+            try (FileChannel channel =
+                     FileChannel.open(file, StandardOpenOption.WRITE)) {
+                ByteBuffer size = ByteBuffer.allocate(Long.BYTES);
+                size.putLong(0, Long.MAX_VALUE);
+                channel.write(size, 8);
+            }
+            try {
+                new MappedArrayList<>(file, MappedArrayList.LONG_CODEC);
+                fail();
+            } catch (IOException e) {
+                // corrupt header
+            }
+
+            // a file too short to hold the header is rejected, not wiped
+            Files.write(file, new byte[] {1, 2, 3});
+            try {
+                new MappedArrayList<>(file, MappedArrayList.LONG_CODEC);
+                fail();
+            } catch (IOException e) {
+                assertEquals(3, Files.size(file));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIteratorAndStream() {
+        for (int i = 0; i < 5; i++) {
+            list.addToBack(i + "a");
+        }
+
+        int i = 0;
+        for (String s : list) {
+            assertEquals(i++ + "a", s);
+        }
+        assertEquals(5, i);
+
+        Spliterator<String> spliterator = list.spliterator();
+        assertEquals(5, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(
+                Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals("0a1a2a3a4a",
+                list.parallelStream().collect(Collectors.joining()));
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testParallelSearch() {
+        ArrayList<Integer> numbers = new ArrayList<>();
+        int n = ArrayList.PARALLEL_THRESHOLD * 4 + 3;
+        for (int i = 0; i < n; i++) {
+            numbers.addToBack(i % 1000);
+        }
+
+        assertEquals(7, numbers.indexOf(7));
+        int last = n - 1;
+        while (last % 1000 != 7) {
+            last--;
+        }
+        assertEquals(last, numbers.lastIndexOf(7));
+        assertEquals(-1, numbers.indexOf(1000));
+        assertEquals(-1, numbers.lastIndexOf(1000));
+        numbers.addToBack(1000);
+        assertEquals(n, numbers.indexOf(1000));
+        assertEquals(numbers.stream().filter(x -> x < 10).count(),
+                numbers.count(x -> x < 10));
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testCopyOnWriteArrayList() {
+        CopyOnWriteArrayList<String> cow = new CopyOnWriteArrayList<>();
+        cow.addToBack("1a");
+        cow.addToFront("0a");
+        cow.addAll(2, new String[] {"2a", "3a", "4a"}); // 0a 1a 2a 3a 4a
+
+        Iterator<String> snapshot = cow.iterator();
+        assertEquals("2a", cow.removeAtIndex(2)); // 0a 1a 3a 4a
+        cow.mutate(working -> {
+            working.removeFromFront();
+            working.addToBack("5a");
+        }); // 1a 3a 4a 5a
+
+        int count = 0;
+        while (snapshot.hasNext()) {
+            assertEquals(count++ + "a", snapshot.next());
+        }
+        assertEquals(5, count);
+
+        assertArrayEquals(new Object[] {"1a", "3a", "4a", "5a"},
+                cow.toArray());
+        assertEquals(2, cow.lastIndexOf("4a"));
+        cow.removeRange(1, 3);
+        assertEquals("5a", cow.removeFromBack());
+        assertEquals("1a", cow.get(0));
+        assertEquals(1, cow.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSortedArrayList() {
+        SortedArrayList<Integer> sorted =
+            new SortedArrayList<>(Comparator.naturalOrder());
+        sorted.insertSorted(50);
+        sorted.insertSorted(10);
+        sorted.insertSorted(30);
+        sorted.insertSorted(30); // 10 30 30 50
+        sorted.addAllSorted(new Integer[] {5, 30, 40, 60, 70, 80, 90});
+        // 5 10 30 30 30 40 50 60 70 80 90
+
+        Integer[] expected = {5, 10, 30, 30, 30, 40, 50, 60, 70, 80, 90};
+        assertEquals(expected.length, sorted.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], sorted.get(i));
+        }
+
+        assertEquals(6, sorted.binarySearch(50));
+        assertEquals(-3, sorted.binarySearch(20));
+        assertEquals(4, sorted.lastIndexOf(30));
+        assertEquals(Integer.valueOf(10), sorted.floor(29));
+        assertEquals(Integer.valueOf(30), sorted.floor(30));
+        assertEquals(Integer.valueOf(40), sorted.ceiling(31));
+        assertEquals(null, sorted.ceiling(91));
+        assertEquals(5, sorted.rangeCount(30, 50));
+        assertEquals(0, sorted.rangeCount(50, 30));
+
+        assertEquals(Integer.valueOf(30), sorted.removeValue(30));
+        assertEquals(null, sorted.removeValue(31));
+        assertEquals(3, sorted.lastIndexOf(30));
+    }
+
 }
\ No newline at end of file
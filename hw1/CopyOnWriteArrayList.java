@@ -0,0 +1,338 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Your implementation of a copy-on-write ArrayList.
+ *
+ * Has the same API as ArrayList, but is safe to share between threads.
+ * Readers never lock: get, size and iteration work on an immutable array
+ * that is published through a volatile field. Writers take a lock, build a
+ * new array with the change applied and publish it in a single write, so a
+ * reader always sees either the old or the new contents, never a mix.
+ *
+ * This trades O(n) writes for lock-free O(1) reads, so it suits lists that
+ * are read far more often than they are changed.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class CopyOnWriteArrayList<T> implements Iterable<T> {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile T[] array;
+
+    /**
+     * Constructs a new, empty CopyOnWriteArrayList.
+     */
+    public CopyOnWriteArrayList() {
+        array = (T[]) new Object[0];
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Must be O(n).
+     *
+     * @param index the index where you want the new element
+     * @param data the data to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        addAll(index, (T[]) new Object[] {data});
+    }
+
+    /**
+     * Adds all of the given elements to the list, starting at the index
+     * specified and keeping their order. The whole batch is published with
+     * a single copy of the array.
+     *
+     * Must be O(n + k) where k is the number of elements added.
+     *
+     * @param index the index where the first new element should go
+     * @param data the elements to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     * @throws IllegalArgumentException if data or any of its elements is null
+     */
+    public void addAll(int index, T[] data) {
+        if (data == null) throw new IllegalArgumentException();
+        for (T element : data) {
+            if (element == null) throw new IllegalArgumentException();
+        }
+
+        writeLock.lock();
+        try {
+            T[] current = array;
+            if (index < 0 || index > current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            T[] newArray = (T[]) new Object[current.length + data.length];
+            System.arraycopy(current, 0, newArray, 0, index);
+            System.arraycopy(data, 0, newArray, index, data.length);
+            System.arraycopy(current, index, newArray, index + data.length,
+                    current.length - index);
+            array = newArray;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given data to the front of your array list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the given data to the back of your array list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        writeLock.lock();
+        try {
+            T[] current = array;
+            T[] newArray = Arrays.copyOf(current, current.length + 1);
+            newArray[current.length] = data;
+            array = newArray;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * Must be O(n).
+     *
+     * @param index the index of the element
+     * @return the object that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        writeLock.lock();
+        try {
+            T[] current = array;
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            T data = current[index];
+            removeRange(index, index + 1);
+            return data;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all elements whose index is between from, inclusive, and to,
+     * exclusive. The whole range is removed with a single copy of the array.
+     *
+     * Must be O(n).
+     *
+     * @param from the index of the first element to remove
+     * @param to the index after the last element to remove
+     * @throws IndexOutOfBoundsException if from < 0, to > size or from > to
+     */
+    public void removeRange(int from, int to) {
+        writeLock.lock();
+        try {
+            T[] current = array;
+            if (from < 0 || to > current.length || from > to) {
+                throw new IndexOutOfBoundsException();
+            }
+            T[] newArray = (T[]) new Object[current.length - (to - from)];
+            System.arraycopy(current, 0, newArray, 0, from);
+            System.arraycopy(current, to, newArray, from,
+                    current.length - to);
+            array = newArray;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Applies a batch of edits to the list and publishes the result at once.
+     *
+     * The edits run on a private hw1 ArrayList holding the current contents,
+     * so readers never see a half-applied batch and the whole batch costs a
+     * constant number of array copies no matter how many edits it makes.
+     * Other writers wait until the batch is published.
+     *
+     * @param edits the edits to apply
+     * @throws IllegalArgumentException if edits is null
+     */
+    public void mutate(Consumer<ArrayList<T>> edits) {
+        if (edits == null) throw new IllegalArgumentException();
+
+        writeLock.lock();
+        try {
+            ArrayList<T> working = new ArrayList<>();
+            working.addAll(0, array);
+            edits.accept(working);
+            array = (T[]) Arrays.copyOf(working.getBackingArray(),
+                    working.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data from the front of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromFront() {
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data from the back of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromBack() {
+        writeLock.lock();
+        try {
+            return removeAtIndex(array.length - 1);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the given index. Never blocks.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        T[] current = array;
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return current[index];
+    }
+
+    /**
+     * Finds the index at which the given data is located in the list.
+     *
+     * If there are multiple instances of the data in the list, then return
+     * the index of the last instance. Never blocks.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        T[] current = array;
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (current[i].equals(data)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the list taken when this method
+     * is called. Later changes to the list are not seen by the iterator, and
+     * it never throws ConcurrentModificationException.
+     *
+     * @return an iterator over the current contents of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        T[] snapshot = array;
+        return new Iterator<T>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.length;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return snapshot[cursor++];
+            }
+        };
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            array = (T[]) new Object[0];
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Returns a copy of the current contents of the list.
+     *
+     * @return an array of length {@code size} holding the list's elements
+     */
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+}
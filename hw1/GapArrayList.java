@@ -0,0 +1,270 @@
+/**
+ * Your implementation of a gap-buffer backed ArrayList.
+ *
+ * Has the same API as ArrayList, but keeps the free space of the backing
+ * array as a gap at the position of the last edit instead of at the end.
+ * An edit next to the previous one only has to move the elements between
+ * the two positions, so edits clustered around a moving cursor are O(1)
+ * amortized instead of shifting the whole tail every time.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class GapArrayList<T> {
+
+    private T[] backingArray;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * The initial capacity of the array list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new GapArrayList.
+     */
+    public GapArrayList() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Moves the gap to index first, so the cost is proportional to the
+     * distance from the previous edit rather than to the size of the list.
+     *
+     * @param index the index where you want the new element
+     * @param data the data to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size()) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+
+        if (gapStart == gapEnd) {
+            resizeArray(backingArray.length * 2, index);
+        } else {
+            moveGap(index);
+        }
+        backingArray[gapStart++] = data;
+    }
+
+    /**
+     * Moves the gap so that it starts at the given logical index.
+     *
+     * Only the elements between the old and new gap positions are moved, and
+     * the slots they leave behind are nulled out.
+     *
+     * @param index the logical index where the gap should start
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(backingArray, index, backingArray,
+                    gapEnd - count, count);
+            clearSlots(index, Math.min(gapStart, gapEnd - count));
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(backingArray, gapEnd, backingArray,
+                    gapStart, count);
+            clearSlots(Math.max(gapEnd, index), gapEnd + count);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Nulls out the slots of the backing array between from, inclusive, and
+     * to, exclusive.
+     *
+     * @param from the first slot to clear
+     * @param to the slot after the last one to clear
+     */
+    private void clearSlots(int from, int to) {
+        for (int i = from; i < to; i++) {
+            backingArray[i] = null;
+        }
+    }
+
+    /**
+     * Resizes the full backing array to the given capacity, placing the gap
+     * at the given logical index.
+     *
+     * Since the array is full, the gap is empty and logical indices match
+     * physical ones, so each side of the new gap is a single block copy.
+     *
+     * @param capacity the new capacity of the array
+     * @param index the logical index where the gap should start
+     */
+    private void resizeArray(int capacity, int index) {
+        int size = backingArray.length;
+        T[] newArray = (T[]) new Object[capacity];
+        int newGapEnd = capacity - (size - index);
+        System.arraycopy(backingArray, 0, newArray, 0, index);
+        System.arraycopy(backingArray, index, newArray, newGapEnd,
+                size - index);
+        backingArray = newArray;
+        gapStart = index;
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Adds the given data to the front of your array list.
+     *
+     * @param data the data to add to the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the given data to the back of your array list.
+     *
+     * @param data the data to add to the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size(), data);
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * Moves the gap to index first and then widens it by one slot, so the
+     * cost is proportional to the distance from the previous edit.
+     *
+     * @param index the index of the element
+     * @return the object that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException();
+
+        moveGap(index);
+        T data = backingArray[gapEnd];
+        backingArray[gapEnd++] = null;
+        return data;
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * @return the data from the front of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromFront() {
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * @return the data from the back of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromBack() {
+        return removeAtIndex(size() - 1);
+    }
+
+    /**
+     * Returns the element at the given index, skipping over the gap.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException();
+
+        return backingArray[physicalIndex(index)];
+    }
+
+    /**
+     * Maps a logical index of the list to its slot in the backing array.
+     *
+     * @param index the logical index
+     * @return the physical index in the backing array
+     */
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    /**
+     * Finds the index at which the given data is located in the list.
+     *
+     * If there are multiple instances of the data in the list, then return
+     * the index of the last instance.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        for (int i = backingArray.length - 1; i >= gapEnd; i--) {
+            if (backingArray[i].equals(data)) return i - gapEnd + gapStart;
+        }
+        for (int i = gapStart - 1; i >= 0; i--) {
+            if (backingArray[i].equals(data)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the initial
+     * capacity.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return backingArray.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns the backing array for this list. The elements before the gap
+     * are at the front of the array and the ones after it at the back.
+     *
+     * @return the backing array for this list
+     */
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+
+}
@@ -0,0 +1,209 @@
+/**
+ * Your implementation of an ArrayList specialized for int values.
+ *
+ * Mirrors the API of ArrayList, but stores the elements directly in an
+ * int[] so no element is ever boxed.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class IntArrayList {
+
+    private int[] backingArray;
+    private int size;
+
+    /**
+     * The initial capacity of the array list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new IntArrayList.
+     */
+    public IntArrayList() {
+        backingArray = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Adding to index {@code size} should be amortized O(1),
+     * all other adds are O(n).
+     *
+     * @param index the index where you want the new element
+     * @param data the data to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     */
+    public void addAtIndex(int index, int data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        if (size == backingArray.length) {
+            resizeArray(size * 2);
+        }
+
+        if (index < size) {
+            System.arraycopy(backingArray, index, backingArray, index + 1,
+                    size - index);
+        }
+
+        backingArray[index] = data;
+        size++;
+    }
+
+    /**
+     * Resizes array to the given capacity.
+     *
+     * @param capacity the new capacity of the array.
+     */
+    private void resizeArray(int capacity) {
+        int[] newArray = new int[capacity];
+        System.arraycopy(backingArray, 0, newArray, 0, size);
+        backingArray = newArray;
+    }
+
+    /**
+     * Adds the given data to the front of your array list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the list
+     */
+    public void addToFront(int data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the given data to the back of your array list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the list
+     */
+    public void addToBack(int data) {
+        if (size == backingArray.length) {
+            resizeArray(size * 2);
+        }
+        backingArray[size++] = data;
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * This method should be O(1) for index {@code size - 1} and O(n) in
+     * all other cases.
+     *
+     * @param index the index of the element
+     * @return the value that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public int removeAtIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        int data = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
+
+        backingArray[--size] = 0;
+        return data;
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data from the front of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public int removeFromFront() {
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the back of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public int removeFromBack() {
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        return backingArray[index];
+    }
+
+    /**
+     * Finds the index of the last occurrence of the given value.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     */
+    public int lastIndexOf(int data) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (backingArray[i] == data) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the initial
+     * capacity.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array for this list.
+     *
+     * @return the backing array for this list
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+
+}
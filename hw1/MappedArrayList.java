@@ -0,0 +1,313 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Your implementation of a persistent, memory-mapped ArrayList of
+ * fixed-width records.
+ *
+ * Follows the addToBack/get/removeFromBack/size contract of ArrayList, but
+ * the elements live in a memory-mapped file instead of on the heap. The file
+ * starts with a small header holding the record width and the size, followed
+ * by the records back to back. Reopening a file only has to read the header,
+ * so there is no deserialization pass on startup.
+ *
+ * The mapped region grows in chunks of {@code CHUNK_RECORDS} records. A
+ * single mapping is limited to {@code Integer.MAX_VALUE} bytes. Once the
+ * list is closed, every operation but close throws
+ * IllegalStateException.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class MappedArrayList<T> implements Closeable {
+
+    /**
+     * Converts records to and from their fixed-width binary form.
+     *
+     * @param <T> the type of record
+     */
+    public interface RecordCodec<T> {
+
+        /**
+         * Returns the number of bytes each record takes.
+         *
+         * @return the record width in bytes
+         */
+        int width();
+
+        /**
+         * Writes the record to the buffer starting at the given offset.
+         *
+         * @param buffer the buffer to write to
+         * @param offset the offset of the first byte of the record
+         * @param data the record to write
+         */
+        void write(MappedByteBuffer buffer, int offset, T data);
+
+        /**
+         * Reads the record starting at the given offset of the buffer.
+         *
+         * @param buffer the buffer to read from
+         * @param offset the offset of the first byte of the record
+         * @return the record
+         */
+        T read(MappedByteBuffer buffer, int offset);
+    }
+
+    /**
+     * Codec storing each record as a single 8-byte long.
+     */
+    public static final RecordCodec<Long> LONG_CODEC =
+        new RecordCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(MappedByteBuffer buffer, int offset, Long data) {
+            buffer.putLong(offset, data);
+        }
+
+        @Override
+        public Long read(MappedByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * The number of records the mapped region grows by at a time.
+     */
+    public static final int CHUNK_RECORDS = 4096;
+
+    private static final int MAGIC = 0x4D41524C;
+    private static final int HEADER_SIZE = 16;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+
+    private final FileChannel channel;
+    private final RecordCodec<T> codec;
+    // null once the list is closed
+    private MappedByteBuffer buffer;
+    private int size;
+
+    /**
+     * Opens the list stored in the given file, creating an empty one if the
+     * file does not exist yet.
+     *
+     * @param path the file backing the list
+     * @param codec the codec for the records
+     * @throws IllegalArgumentException if path or codec is null, if the
+     * codec's width is not positive, or if the file was written with a
+     * different record width
+     * @throws IOException if the file cannot be opened or mapped, or if it
+     * is not empty but is not a valid list file: shorter than the header,
+     * with the wrong magic number, or with a stored size that does not fit
+     * the file
+     */
+    public MappedArrayList(Path path, RecordCodec<T> codec)
+        throws IOException {
+        if (path == null || codec == null || codec.width() <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.codec = codec;
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                map(HEADER_SIZE + (long) CHUNK_RECORDS * codec.width());
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(WIDTH_OFFSET, codec.width());
+                buffer.putLong(SIZE_OFFSET, 0);
+                size = 0;
+            } else {
+                if (channel.size() < HEADER_SIZE) {
+                    throw new IOException("File is shorter than the header");
+                }
+                map(channel.size());
+                if (buffer.getInt(0) != MAGIC) {
+                    throw new IOException("File is not a MappedArrayList");
+                }
+                if (buffer.getInt(WIDTH_OFFSET) != codec.width()) {
+                    throw new IllegalArgumentException();
+                }
+                long stored = buffer.getLong(SIZE_OFFSET);
+                long fits = (channel.size() - HEADER_SIZE) / codec.width();
+                if (stored < 0 || stored > fits) {
+                    throw new IOException("Stored size does not fit the file");
+                }
+                size = (int) stored;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the first length bytes of the file, extending it if necessary.
+     *
+     * @param length the number of bytes to map
+     * @throws IOException if the region cannot be mapped, including when it
+     * would be longer than a single mapping allows
+     */
+    private void map(long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File would exceed a single mapping");
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+    }
+
+    /**
+     * Throws if the list has been closed.
+     */
+    private void checkOpen() {
+        if (buffer == null) throw new IllegalStateException();
+    }
+
+    /**
+     * Returns the byte offset of the record at the given index.
+     *
+     * @param index the index of the record
+     * @return the offset of the record in the mapped region
+     */
+    private int offsetOf(int index) {
+        return HEADER_SIZE + index * codec.width();
+    }
+
+    /**
+     * Adds the given record to the back of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the record to add to the list
+     * @throws IllegalArgumentException if data is null
+     * @throws UncheckedIOException if the mapped region cannot grow, e.g.
+     * because the file would pass {@code Integer.MAX_VALUE} bytes
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void addToBack(T data) {
+        checkOpen();
+        if (data == null) throw new IllegalArgumentException();
+
+        long end = HEADER_SIZE + (long) (size + 1) * codec.width();
+        if (end > buffer.capacity()) {
+            try {
+                map(buffer.capacity() + (long) CHUNK_RECORDS * codec.width());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        codec.write(buffer, offsetOf(size), data);
+        buffer.putLong(SIZE_OFFSET, ++size);
+    }
+
+    /**
+     * Removes and returns the last record in the list.
+     *
+     * The file is not truncated, so the space is reused by the next add.
+     *
+     * Must be O(1).
+     *
+     * @return the record from the back of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     * @throws IllegalStateException if the list has been closed
+     */
+    public T removeFromBack() {
+        T data = get(size - 1);
+        buffer.putLong(SIZE_OFFSET, --size);
+        return data;
+    }
+
+    /**
+     * Returns the record at the given index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the record
+     * @return the record stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     * @throws IllegalStateException if the list has been closed
+     */
+    public T get(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        return codec.read(buffer, offsetOf(index));
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     * @throws IllegalStateException if the list has been closed
+     */
+    public boolean isEmpty() {
+        checkOpen();
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. The mapped region is kept for reuse.
+     *
+     * Must be O(1).
+     *
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void clear() {
+        checkOpen();
+        size = 0;
+        buffer.putLong(SIZE_OFFSET, 0);
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     * @throws IllegalStateException if the list has been closed
+     */
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Flushes the mapped region to the storage device.
+     *
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void force() {
+        checkOpen();
+        buffer.force();
+    }
+
+    /**
+     * Flushes the mapped region and closes the backing file. Closing an
+     * already closed list has no effect.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) return;
+
+        MappedByteBuffer mapped = buffer;
+        buffer = null;
+        try {
+            mapped.force();
+        } finally {
+            channel.close();
+        }
+    }
+
+}
@@ -0,0 +1,331 @@
+import java.util.Comparator;
+
+/**
+ * Your implementation of an ArrayList kept in sorted order.
+ *
+ * Elements are ordered by the Comparator given at construction, which lets
+ * lookups use binary search instead of a linear scan. Equal elements are
+ * kept in insertion order.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class SortedArrayList<T> {
+
+    private final Comparator<? super T> comparator;
+    private T[] backingArray;
+    private int size;
+
+    /**
+     * The initial capacity of the array list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new SortedArrayList ordered by the given comparator.
+     *
+     * @param comparator the comparator defining the order of the list
+     * @throws IllegalArgumentException if comparator is null
+     */
+    public SortedArrayList(Comparator<? super T> comparator) {
+        if (comparator == null) throw new IllegalArgumentException();
+        this.comparator = comparator;
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Searches for the given data using binary search.
+     *
+     * Must be O(log n).
+     *
+     * @param data the data to search for
+     * @return the index of an element equal to data if there is one,
+     * otherwise {@code -(insertion point) - 1}
+     * @throws IllegalArgumentException if data is null
+     */
+    public int binarySearch(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparator.compare(backingArray[mid], data);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first element that is not less than data
+     * (strict is false) or greater than data (strict is true).
+     *
+     * @param data the data to compare against
+     * @param strict whether elements equal to data should be skipped
+     * @return the index of the first such element, or size if there is none
+     */
+    private int bound(T data, boolean strict) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = comparator.compare(backingArray[mid], data);
+            if (cmp < 0 || (strict && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Inserts the data at its sorted position, after any equal elements.
+     *
+     * Finding the position is O(log n) and the tail is moved with a single
+     * block shift, so the whole insert is O(n) with a small constant.
+     *
+     * @param data the data to add to the list
+     * @return the index the data was inserted at
+     * @throws IllegalArgumentException if data is null
+     */
+    public int insertSorted(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        int index = bound(data, true);
+        if (size == backingArray.length) {
+            resizeArray(size * 2);
+        }
+        System.arraycopy(backingArray, index, backingArray, index + 1,
+                size - index);
+        backingArray[index] = data;
+        size++;
+        return index;
+    }
+
+    /**
+     * Merges an already sorted batch of elements into the list in a single
+     * linear pass.
+     *
+     * The backing array grows at most once and the merge runs from the back
+     * of the array, so no temporary array is needed. This is O(n + k)
+     * instead of the O(k * n) of k separate inserts.
+     *
+     * @param data the elements to add, sorted by this list's comparator
+     * @throws IllegalArgumentException if data is null, contains null or is
+     * not sorted
+     */
+    public void addAllSorted(T[] data) {
+        if (data == null) throw new IllegalArgumentException();
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == null) throw new IllegalArgumentException();
+            if (i > 0 && comparator.compare(data[i - 1], data[i]) > 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        int count = data.length;
+        if (size + count > backingArray.length) {
+            resizeArray(Math.max(backingArray.length * 2, size + count));
+        }
+
+        int i = size - 1;
+        int j = count - 1;
+        int k = size + count - 1;
+        while (j >= 0) {
+            // ties go to the batch so it lands after existing equal elements
+            if (i >= 0 && comparator.compare(backingArray[i], data[j]) > 0) {
+                backingArray[k--] = backingArray[i--];
+            } else {
+                backingArray[k--] = data[j--];
+            }
+        }
+        size += count;
+    }
+
+    /**
+     * Resizes array to the given capacity.
+     *
+     * @param capacity the new capacity of the array.
+     */
+    private void resizeArray(int capacity) {
+        T[] newArray = (T[]) new Object[capacity];
+        System.arraycopy(backingArray, 0, newArray, 0, size);
+        backingArray = newArray;
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * This method should be O(1) for index {@code size - 1} and O(n) in
+     * all other cases.
+     *
+     * @param index the index of the element
+     * @return the object that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        T data = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index,
+                size - index - 1);
+        backingArray[--size] = null;
+        return data;
+    }
+
+    /**
+     * Removes the first element equal to the given data according to the
+     * comparator.
+     *
+     * Must be O(n), with the lookup itself O(log n).
+     *
+     * @param data the data to remove
+     * @return the removed element from the list itself (not the data passed
+     * in), null if no such element
+     * @throws IllegalArgumentException if data is null
+     */
+    public T removeValue(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        int index = bound(data, false);
+        if (index == size
+            || comparator.compare(backingArray[index], data) != 0) {
+            return null;
+        }
+        return removeAtIndex(index);
+    }
+
+    /**
+     * Returns the greatest element less than or equal to the given data.
+     *
+     * Must be O(log n).
+     *
+     * @param data the data to compare against
+     * @return the floor of data, or null if there is none
+     * @throws IllegalArgumentException if data is null
+     */
+    public T floor(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        int index = bound(data, true) - 1;
+        return index >= 0 ? backingArray[index] : null;
+    }
+
+    /**
+     * Returns the least element greater than or equal to the given data.
+     *
+     * Must be O(log n).
+     *
+     * @param data the data to compare against
+     * @return the ceiling of data, or null if there is none
+     * @throws IllegalArgumentException if data is null
+     */
+    public T ceiling(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        int index = bound(data, false);
+        return index < size ? backingArray[index] : null;
+    }
+
+    /**
+     * Counts the elements between low and high, both inclusive.
+     *
+     * Must be O(log n).
+     *
+     * @param low the lower end of the range
+     * @param high the upper end of the range
+     * @return the number of elements in the range, 0 if low > high
+     * @throws IllegalArgumentException if low or high is null
+     */
+    public int rangeCount(T low, T high) {
+        if (low == null || high == null) throw new IllegalArgumentException();
+
+        return Math.max(0, bound(high, true) - bound(low, false));
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        return backingArray[index];
+    }
+
+    /**
+     * Finds the index of the last element equal to the given data according
+     * to the comparator.
+     *
+     * Must be O(log n).
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        int index = bound(data, true) - 1;
+        if (index < 0 || comparator.compare(backingArray[index], data) != 0) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. Resets the backing array to a new array of the initial
+     * capacity.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array for this list.
+     *
+     * @return the backing array for this list
+     */
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+
+}
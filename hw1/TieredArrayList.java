@@ -0,0 +1,381 @@
+/**
+ * Your implementation of a tiered (square root decomposed) ArrayList.
+ *
+ * Has the same API as ArrayList, but the elements are spread across tiers,
+ * each a fixed-size circular array. Every tier except the last is full, so
+ * get only has to split the index into a tier and an offset. Inserting or
+ * removing shifts at most one tier and then moves a single element across
+ * each following tier's boundary, which is O(1) per tier because tiers are
+ * circular. With the tier size kept near the square root of the size, all
+ * positional adds and removes are O(sqrt n).
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class TieredArrayList<T> {
+
+    private T[][] tiers;
+    private int[] fronts;
+    private int tierCount;
+    private int shift;
+    private int size;
+
+    /**
+     * The log base 2 of the smallest tier size.
+     */
+    public static final int MIN_SHIFT = 3;
+
+    /**
+     * Constructs a new TieredArrayList.
+     */
+    public TieredArrayList() {
+        clear();
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Must be O(sqrt n) amortized.
+     *
+     * @param index the index where you want the new element
+     * @param data the data to add to the list
+     * @throws IndexOutOfBoundsException if index is negative
+     * or index > size
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+
+        if (size == tierCount << shift) {
+            addTier();
+        }
+
+        int t = index >> shift;
+        int last = tierCount - 1;
+        int count = countOf(t);
+        // push the back of every full tier from t on into the next tier
+        for (int j = last; j > t; j--) {
+            pushFront(j, popBack(j - 1, tierSize()));
+        }
+        if (t < last) count--;
+        insertInTier(t, count, index & (tierSize() - 1), data);
+        size++;
+
+        if (tierCount > 2 << shift) {
+            rebuild(shift + 1);
+        }
+    }
+
+    /**
+     * Removes and returns the element at {@code index}.
+     *
+     * Must be O(sqrt n) amortized.
+     *
+     * @param index the index of the element
+     * @return the object that was formerly at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        int t = index >> shift;
+        T data = removeFromTier(t, index & (tierSize() - 1));
+        // pull the front of every following tier into the previous one
+        for (int j = t + 1; j < tierCount; j++) {
+            pushBack(j - 1, tierSize() - 1, popFront(j));
+        }
+        size--;
+
+        if (size == (tierCount - 1) << shift) {
+            tiers[--tierCount] = null;
+        }
+        if (shift > MIN_SHIFT && tierCount < 1 << (shift - 2)) {
+            rebuild(shift - 1);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the number of slots in each tier.
+     *
+     * @return the tier size
+     */
+    private int tierSize() {
+        return 1 << shift;
+    }
+
+    /**
+     * Returns the number of elements stored in the given tier.
+     *
+     * @param t the tier
+     * @return the number of elements in the tier
+     */
+    private int countOf(int t) {
+        return t < tierCount - 1 ? tierSize() : size - (t << shift);
+    }
+
+    /**
+     * Appends a new empty tier, growing the tier arrays if necessary.
+     */
+    private void addTier() {
+        if (tierCount == tiers.length) {
+            T[][] newTiers = (T[][]) new Object[tierCount * 2][];
+            int[] newFronts = new int[tierCount * 2];
+            System.arraycopy(tiers, 0, newTiers, 0, tierCount);
+            System.arraycopy(fronts, 0, newFronts, 0, tierCount);
+            tiers = newTiers;
+            fronts = newFronts;
+        }
+        tiers[tierCount] = (T[]) new Object[tierSize()];
+        fronts[tierCount] = 0;
+        tierCount++;
+    }
+
+    /**
+     * Inserts data at the given offset of tier t, shifting the following
+     * elements of that tier back by one slot. The tier must not be full.
+     *
+     * @param t the tier
+     * @param count the number of elements currently in the tier
+     * @param offset the offset within the tier
+     * @param data the data to insert
+     */
+    private void insertInTier(int t, int count, int offset, T data) {
+        T[] tier = tiers[t];
+        int mask = tier.length - 1;
+        int front = fronts[t];
+        for (int i = count; i > offset; i--) {
+            tier[(front + i) & mask] = tier[(front + i - 1) & mask];
+        }
+        tier[(front + offset) & mask] = data;
+    }
+
+    /**
+     * Removes the data at the given offset of tier t, shifting the following
+     * elements of that tier forward by one slot.
+     *
+     * @param t the tier
+     * @param offset the offset within the tier
+     * @return the removed data
+     */
+    private T removeFromTier(int t, int offset) {
+        T[] tier = tiers[t];
+        int mask = tier.length - 1;
+        int front = fronts[t];
+        int count = countOf(t);
+        T data = tier[(front + offset) & mask];
+        for (int i = offset; i < count - 1; i++) {
+            tier[(front + i) & mask] = tier[(front + i + 1) & mask];
+        }
+        tier[(front + count - 1) & mask] = null;
+        return data;
+    }
+
+    /**
+     * Adds data in front of the first element of tier t.
+     *
+     * @param t the tier
+     * @param data the data to add
+     */
+    private void pushFront(int t, T data) {
+        fronts[t] = (fronts[t] - 1) & (tierSize() - 1);
+        tiers[t][fronts[t]] = data;
+    }
+
+    /**
+     * Adds data after the last element of tier t.
+     *
+     * @param t the tier
+     * @param count the number of elements currently in the tier
+     * @param data the data to add
+     */
+    private void pushBack(int t, int count, T data) {
+        tiers[t][(fronts[t] + count) & (tierSize() - 1)] = data;
+    }
+
+    /**
+     * Removes and returns the first element of tier t.
+     *
+     * @param t the tier
+     * @return the removed data
+     */
+    private T popFront(int t) {
+        T data = tiers[t][fronts[t]];
+        tiers[t][fronts[t]] = null;
+        fronts[t] = (fronts[t] + 1) & (tierSize() - 1);
+        return data;
+    }
+
+    /**
+     * Removes and returns the last element of tier t.
+     *
+     * @param t the tier
+     * @param count the number of elements currently in the tier
+     * @return the removed data
+     */
+    private T popBack(int t, int count) {
+        int i = (fronts[t] + count - 1) & (tierSize() - 1);
+        T data = tiers[t][i];
+        tiers[t][i] = null;
+        return data;
+    }
+
+    /**
+     * Redistributes all elements into tiers of size {@code 1 << newShift}.
+     *
+     * Called when the number of tiers drifts too far from the tier size, so
+     * both stay close to sqrt n. This is O(n) but happens only after the
+     * size has doubled or shrunk by a constant factor.
+     *
+     * @param newShift the log base 2 of the new tier size
+     */
+    private void rebuild(int newShift) {
+        int newSize = 1 << newShift;
+        int newCount = (size + newSize - 1) >> newShift;
+        T[][] newTiers = (T[][]) new Object[Math.max(newCount, 1)][];
+        int[] newFronts = new int[newTiers.length];
+        for (int t = 0; t < newCount; t++) {
+            newTiers[t] = (T[]) new Object[newSize];
+        }
+        for (int i = 0; i < size; i++) {
+            newTiers[i >> newShift][i & (newSize - 1)] = get(i);
+        }
+        tiers = newTiers;
+        fronts = newFronts;
+        tierCount = newCount;
+        shift = newShift;
+    }
+
+    /**
+     * Adds the given data to the front of your array list.
+     *
+     * Must be O(sqrt n).
+     *
+     * @param data the data to add to the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the given data to the back of your array list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the first element in the list.
+     *
+     * Must be O(sqrt n).
+     *
+     * @return the data from the front of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromFront() {
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element in the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @return the data from the back of the list
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromBack() {
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element
+     * @return the data stored at that index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        int t = index >> shift;
+        return tiers[t][(fronts[t] + index) & (tierSize() - 1)];
+    }
+
+    /**
+     * Finds the index at which the given data is located in the list.
+     *
+     * If there are multiple instances of the data in the list, then return
+     * the index of the last instance.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to find the last index of
+     * @return the last index of the data or -1 if the data is not in the list
+     * @throws IllegalArgumentException if data is null
+     */
+    public int lastIndexOf(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        for (int i = size - 1; i >= 0; i--) {
+            if (get(i).equals(data)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the list is empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list. Resets the list to a single empty tier of the
+     * smallest size.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        shift = MIN_SHIFT;
+        tiers = (T[][]) new Object[1][];
+        tiers[0] = (T[]) new Object[tierSize()];
+        fronts = new int[1];
+        tierCount = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the list as an integer.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots in each tier.
+     *
+     * @return the current tier size
+     */
+    public int getTierSize() {
+        return tierSize();
+    }
+
+}
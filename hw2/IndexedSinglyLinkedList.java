@@ -0,0 +1,443 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Your implementation of a circular singly linked list with an indexable
+ * skip layer.
+ *
+ * The elements live in a circular list of LinkedListNodes exactly like in
+ * SinglyLinkedList. On top of it sit up to {@code MAX_LEVEL} sparser index
+ * levels, as in a skip list. Every index node stores the width of its span,
+ * i.e. how many positions lie between it and the next index node on the
+ * same level, so a position can be found by skipping whole spans. This
+ * makes get, addAtIndex and removeAtIndex O(log n) expected.
+ *
+ * Adding and removing at the front reuse the head data-swapping trick of
+ * SinglyLinkedList, so the head node never moves and the index only has to
+ * absorb an insert or remove at position 1. Together with the last index
+ * node of each level being tracked for appends, front and back operations
+ * touch one index node per level and never search.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class IndexedSinglyLinkedList<T> {
+
+    /**
+     * The maximum number of index levels above the linked list.
+     */
+    public static final int MAX_LEVEL = 32;
+
+    /**
+     * A node of an index level.
+     *
+     * @param <T> the type of data in the list
+     */
+    private static class IndexNode<T> {
+        private final LinkedListNode<T> node;
+        private final IndexNode<T> down;
+        private IndexNode<T> next;
+        private int width;
+
+        /**
+         * Creates an index node for a linked list node.
+         *
+         * @param node the linked list node this index node points at
+         * @param down the index node for the same position one level down,
+         * or null on the lowest index level
+         * @param width the number of positions up to the next index node,
+         * or up to the end of the list if this is the last one
+         */
+        IndexNode(LinkedListNode<T> node, IndexNode<T> down, int width) {
+            this.node = node;
+            this.down = down;
+            this.width = width;
+        }
+    }
+
+    private LinkedListNode<T> head;
+    private LinkedListNode<T> tail;
+    private int size;
+    private int levels;
+    private final IndexNode<T>[] heads = newIndexNodes(MAX_LEVEL + 1);
+    private final IndexNode<T>[] lasts = newIndexNodes(MAX_LEVEL + 1);
+
+    /**
+     * Creates an array of index nodes, all null. Arrays of a generic type
+     * cannot be created directly, so the cast is done here.
+     *
+     * @param <E> the type of data in the list
+     * @param length the length of the array
+     * @return a new array of the given length
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> IndexNode<E>[] newIndexNodes(int length) {
+        return (IndexNode<E>[]) new IndexNode<?>[length];
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Adding to indices 0 and {@code size} touches only one index node per
+     * level, all other cases are O(log n) expected.
+     *
+     * @param index the requested index for the new element
+     * @param data the data for the new element
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index > size
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+
+        if (size == 0) {
+            head = new LinkedListNode<>(data);
+            head.setNext(head);
+            tail = head;
+            size++;
+        } else if (index == 0) {
+            // insert a copy of the head behind it and reuse the head node
+            insert(1, head.getData());
+            head.setData(data);
+        } else {
+            insert(index, data);
+        }
+    }
+
+    /**
+     * Inserts data at a position other than 0 of a non-empty list.
+     *
+     * @param index the position of the new element, at least 1
+     * @param data the data for the new element
+     */
+    private void insert(int index, T data) {
+        int height = randomHeight();
+        while (levels < height) {
+            levels++;
+            heads[levels] = new IndexNode<>(head, heads[levels - 1], size);
+            lasts[levels] = heads[levels];
+        }
+
+        IndexNode<T>[] update = newIndexNodes(levels + 1);
+        int[] positions = new int[levels + 1];
+        findBefore(index, update, positions);
+
+        LinkedListNode<T> prev;
+        if (index == size) {
+            prev = tail;
+        } else {
+            prev = walk(levels == 0 ? head : update[1].node,
+                    levels == 0 ? 0 : positions[1], index - 1);
+        }
+        LinkedListNode<T> newNode = new LinkedListNode<>(data, prev.getNext());
+        prev.setNext(newNode);
+        if (prev == tail) tail = newNode;
+
+        IndexNode<T> down = null;
+        for (int l = 1; l <= levels; l++) {
+            IndexNode<T> before = update[l];
+            if (l <= height) {
+                int end = positions[l] + before.width + 1;
+                IndexNode<T> indexNode =
+                    new IndexNode<>(newNode, down, end - index);
+                indexNode.next = before.next;
+                before.next = indexNode;
+                before.width = index - positions[l];
+                if (lasts[l] == before) lasts[l] = indexNode;
+                down = indexNode;
+            } else {
+                before.width++;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Fills update with the last index node before the given position on
+     * each level, and positions with the position of each of those nodes.
+     *
+     * Appends use the tracked last node of each level, so they don't need
+     * to search at all.
+     *
+     * @param index the position to find the predecessors of, at least 1
+     * @param update the array to fill with index nodes
+     * @param positions the array to fill with their positions
+     */
+    private void findBefore(int index, IndexNode<T>[] update,
+                            int[] positions) {
+        if (index >= size) {
+            for (int l = 1; l <= levels; l++) {
+                update[l] = lasts[l];
+                positions[l] = size - lasts[l].width;
+            }
+            return;
+        }
+
+        IndexNode<T> node = heads[levels];
+        int pos = 0;
+        for (int l = levels; l >= 1; l--) {
+            while (node.next != null && pos + node.width < index) {
+                pos += node.width;
+                node = node.next;
+            }
+            update[l] = node;
+            positions[l] = pos;
+            node = node.down;
+        }
+    }
+
+    /**
+     * Walks the linked list from a node at a known position to the node at
+     * the target position.
+     *
+     * @param node the node to start from
+     * @param from the position of node
+     * @param to the target position
+     * @return the node at the target position
+     */
+    private LinkedListNode<T> walk(LinkedListNode<T> node, int from, int to) {
+        for (int i = from; i < to; i++) {
+            node = node.getNext();
+        }
+        return node;
+    }
+
+    /**
+     * Picks the number of index levels for a new element, where each level
+     * is kept with probability 1/2.
+     *
+     * @return the height of the new element's tower
+     */
+    private int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        return Math.min(Integer.numberOfTrailingZeros(~bits), MAX_LEVEL);
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Touches one index node per level and never searches.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Touches one index node per level and never searches.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     *
+     * Removing from index 0 touches one index node per level, all other
+     * cases are O(log n) expected.
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        if (size == 1) {
+            T data = head.getData();
+            clear();
+            return data;
+        } else if (index == 0) {
+            // pull the second element into the head node and unlink its node
+            T data = head.getData();
+            head.setData(remove(1));
+            return data;
+        }
+        return remove(index);
+    }
+
+    /**
+     * Removes the element at a position other than 0 of a list holding at
+     * least two elements.
+     *
+     * @param index the position to remove, at least 1
+     * @return the removed data
+     */
+    private T remove(int index) {
+        IndexNode<T>[] update = newIndexNodes(levels + 1);
+        int[] positions = new int[levels + 1];
+        findBefore(index, update, positions);
+
+        for (int l = 1; l <= levels; l++) {
+            IndexNode<T> before = update[l];
+            IndexNode<T> next = before.next;
+            if (next != null && positions[l] + before.width == index) {
+                before.width += next.width - 1;
+                before.next = next.next;
+                if (lasts[l] == next) lasts[l] = before;
+            } else {
+                before.width--;
+            }
+        }
+
+        LinkedListNode<T> prev = walk(levels == 0 ? head : update[1].node,
+                levels == 0 ? 0 : positions[1], index - 1);
+        LinkedListNode<T> node = prev.getNext();
+        prev.setNext(node.getNext());
+        if (node == tail) tail = prev;
+        size--;
+        return node.getData();
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list
+     * is empty, return {@code null}.
+     *
+     * Touches one index node per level and never searches.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        if (size == 0) return null;
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the element at the back of the list. If the list
+     * is empty, return {@code null}.
+     *
+     * Must be O(log n) expected.
+     *
+     * @return the data formerly located at the back, null if empty list
+     */
+    public T removeFromBack() {
+        if (size == 0) return null;
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Removes the last copy of the given data from the list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the removed data occurrence from the list itself (not the data
+     * passed in), null if no occurrence
+     * @throws IllegalArgumentException if data is null
+     */
+    public T removeLastOccurrence(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        LinkedListNode<T> node = head;
+        int j = -1;
+        for (int i = 0; i < size; i++) {
+            if (node.getData().equals(data)) j = i;
+            node = node.getNext();
+        }
+
+        if (j != -1) return removeAtIndex(j);
+        else return null;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Getting index 0 or {@code size - 1} is O(1), all other cases are
+     * O(log n) expected.
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        if (index == size - 1) return tail.getData();
+        if (levels == 0) return walk(head, 0, index).getData();
+
+        IndexNode<T> node = heads[levels];
+        int pos = 0;
+        for (int l = levels; l >= 1; l--) {
+            while (node.next != null && pos + node.width <= index) {
+                pos += node.width;
+                node = node.next;
+            }
+            if (l > 1) node = node.down;
+        }
+        return walk(node.node, pos, index).getData();
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order
+     */
+    public Object[] toArray() {
+        LinkedListNode<T> node = head;
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = node.getData();
+            node = node.getNext();
+        }
+        return array;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all data, including the index levels.
+     *
+     * Must be O(MAX_LEVEL).
+     */
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        for (int l = 1; l <= levels; l++) {
+            heads[l] = null;
+            lasts[l] = null;
+        }
+        levels = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     *
+     * @return node at the head of the linked list
+     */
+    public LinkedListNode<T> getHead() {
+        return head;
+    }
+
+}
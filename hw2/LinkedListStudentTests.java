@@ -1,11 +1,18 @@
 import org.junit.Test;
 import org.junit.Before;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * This is a basic set of unit tests for SinglyLinkedList. Passing these does
@@ -364,4 +371,334 @@ public class LinkedListStudentTests {
         assertEquals(null, list.getHead());
         assertEquals(true, list.isEmpty());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void testUnrolledLinkedList() {
+        UnrolledLinkedList<Integer> unrolled = new UnrolledLinkedList<>();
+        int n = UnrolledLinkedList.NODE_CAPACITY * 3;
+        for (int i = 0; i < n; i++) {
+            unrolled.addToBack(i);
+        }
+        unrolled.addToFront(-1);
+        unrolled.addAtIndex(n / 2, 1000);
+
+        assertEquals(n + 2, unrolled.size());
+        assertEquals(Integer.valueOf(-1), unrolled.get(0));
+        assertEquals(Integer.valueOf(1000), unrolled.get(n / 2));
+        assertEquals(Integer.valueOf(n - 1), unrolled.get(n + 1));
+        assertSame(unrolled.getHead(), unrolled.getTail().getNext());
+
+        assertEquals(Integer.valueOf(1000),
+                unrolled.removeLastOccurrence(1000));
+        assertNull(unrolled.removeLastOccurrence(1000));
+        assertEquals(Integer.valueOf(-1), unrolled.removeFromFront());
+        assertEquals(Integer.valueOf(n - 1), unrolled.removeFromBack());
+        assertEquals(Integer.valueOf(5), unrolled.removeAtIndex(5));
+
+        Object[] array = unrolled.toArray();
+        assertEquals(n - 2, array.length);
+        assertEquals(4, array[4]);
+        assertEquals(6, array[5]);
+        assertEquals(n - 2, array[n - 3]);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testIndexedSinglyLinkedList() {
+        IndexedSinglyLinkedList<String> indexed =
+            new IndexedSinglyLinkedList<>();
+        indexed.addToBack("2a");
+        indexed.addToFront("0a");
+        indexed.addAtIndex(1, "1a");
+        indexed.addToBack("4a");
+        indexed.addAtIndex(3, "3a"); // 0a 1a 2a 3a 4a
+
+        LinkedListNode<String> head = indexed.getHead();
+        assertEquals("0a", head.getData());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + "a", indexed.get(i));
+        }
+
+        // The head node stays in place; the trick swaps data into it.
+        indexed.addToFront("f");
+        assertSame(head, indexed.getHead());
+        assertEquals("f", head.getData());
+        assertEquals("f", indexed.removeFromFront());
+        assertSame(head, indexed.getHead());
+
+        assertEquals("2a", indexed.removeAtIndex(2)); // 0a 1a 3a 4a
+        assertEquals("4a", indexed.removeFromBack()); // 0a 1a 3a
+        assertEquals("1a", indexed.removeLastOccurrence("1a")); // 0a 3a
+        assertArrayEquals(new Object[] {"0a", "3a"}, indexed.toArray());
+
+        LinkedListNode<String> current = indexed.getHead();
+        current = current.getNext().getNext();
+        assertSame(indexed.getHead(), current);
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testIndexedSinglyLinkedListLarge() {
+        IndexedSinglyLinkedList<Integer> indexed =
+            new IndexedSinglyLinkedList<>();
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int index = (i * 31) % (expected.size() + 1);
+            indexed.addAtIndex(index, i);
+            expected.add(index, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            int index = (i * 17) % expected.size();
+            assertEquals(expected.remove(index), indexed.removeAtIndex(index));
+        }
+
+        assertEquals(expected.size(), indexed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), indexed.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveOnlyElement() {
+        list.addToBack("0a");
+        assertEquals("0a", list.removeAtIndex(0));
+        assertEquals(0, list.size());
+        assertNull(list.getHead());
+
+        list.addToBack("1a");
+        assertEquals("1a", list.removeFromBack());
+        assertNull(list.getHead());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testAppendAndSplit() {
+        SinglyLinkedList<String> other = new SinglyLinkedList<>();
+        for (int i = 0; i < 3; i++) {
+            list.addToBack(i + "a"); // 0a 1a 2a
+            other.addToBack((i + 3) + "a"); // 3a 4a 5a
+        }
+
+        list.append(other); // 0a 1a 2a 3a 4a 5a
+        assertEquals(6, list.size());
+        assertEquals(0, other.size());
+        assertNull(other.getHead());
+        assertArrayEquals(new Object[] {"0a", "1a", "2a", "3a", "4a", "5a"},
+                list.toArray());
+
+        SinglyLinkedList<String> rest = list.splitAt(2);
+        assertArrayEquals(new Object[] {"0a", "1a"}, list.toArray());
+        assertArrayEquals(new Object[] {"2a", "3a", "4a", "5a"},
+                rest.toArray());
+        assertSame(list.getHead(), list.getHead().getNext().getNext());
+        list.addToBack("6a");
+        assertEquals("6a", list.get(2));
+        rest.removeFromBack();
+        assertEquals("2a", rest.get(0));
+        assertEquals("4a", rest.get(2));
+
+        rest.drainTo(list); // 0a 1a 6a 2a 3a 4a
+        assertTrue(rest.isEmpty());
+        assertArrayEquals(new Object[] {"0a", "1a", "6a", "2a", "3a", "4a"},
+                list.toArray());
+        assertEquals(0, list.splitAt(6).size());
+        assertEquals(6, list.splitAt(0).size());
+        assertTrue(list.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testRemoveIfAndRetainAll() {
+        for (int i = 0; i < 8; i++) {
+            list.addToBack(i + "a"); // 0a 1a ... 7a
+        }
+
+        assertTrue(list.removeIf(s -> (s.charAt(0) - '0') % 2 == 0));
+        assertArrayEquals(new Object[] {"1a", "3a", "5a", "7a"},
+                list.toArray());
+        assertFalse(list.removeIf(s -> s.equals("0a")));
+
+        try {
+            list.removeIf(s -> {
+                if (s.equals("5a")) throw new IllegalStateException();
+                return true;
+            });
+            fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // the filter threw before anything was unlinked
+        }
+        assertArrayEquals(new Object[] {"1a", "3a", "5a", "7a"},
+                list.toArray());
+
+        assertTrue(list.retainAll(Arrays.asList("3a", "7a", "9a")));
+        assertArrayEquals(new Object[] {"3a", "7a"}, list.toArray());
+        assertSame(list.getHead(), list.getHead().getNext().getNext());
+
+        assertTrue(list.removeIf(s -> true));
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testListCursor() {
+        for (int i = 0; i < 4; i++) {
+            list.addToBack(i + "a"); // 0a 1a 2a 3a
+        }
+
+        SinglyLinkedList<String>.ListCursor cursor = list.cursor();
+        assertEquals("0a", cursor.next());
+        assertEquals("0a", cursor.removeCurrent()); // 1a 2a 3a
+        cursor.insertAfter("x"); // x 1a 2a 3a
+        assertEquals("1a", cursor.next());
+        cursor.insertAfter("y"); // x 1a y 2a 3a
+        assertEquals("2a", cursor.next());
+        assertEquals("3a", cursor.next());
+        assertEquals("3a", cursor.removeCurrent()); // x 1a y 2a
+        assertFalse(cursor.hasNext());
+        cursor.insertAfter("z"); // x 1a y 2a z
+
+        assertArrayEquals(new Object[] {"x", "1a", "y", "2a", "z"},
+                list.toArray());
+
+        // changes made behind the cursor's back are detected
+        list.removeFromBack(); // x 1a y 2a
+        try {
+            cursor.next();
+            fail("expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // expected, the size changed
+        }
+        SinglyLinkedList<String>.ListCursor other = list.cursor();
+        assertEquals("x", other.next());
+        list.addToFront("w");
+        try {
+            other.insertAfter("v");
+            fail("expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // expected, the size changed
+        }
+        list.clear();
+        list.addToBack("0a");
+        SinglyLinkedList<String>.ListCursor fresh = list.cursor();
+        list.clear();
+        list.addToBack("1a"); // same size, new head node
+        try {
+            fresh.next();
+            fail("expected ConcurrentModificationException");
+        } catch (ConcurrentModificationException e) {
+            // expected, the head changed
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLockFreeCircularList() {
+        LockFreeCircularList<String> ring = new LockFreeCircularList<>();
+        LockFreeCircularList<String>.RingCursor cursor = ring.cursor();
+        assertNull(cursor.next());
+
+        ring.addToBack("0a");
+        ring.addToBack("1a");
+        ring.addToBack("2a");
+        assertEquals("0a", cursor.next());
+        assertEquals("1a", cursor.next());
+        assertTrue(ring.remove("2a"));
+        assertFalse(ring.remove("2a"));
+        assertEquals("0a", cursor.next()); // wraps around the ring
+
+        StringBuilder all = new StringBuilder();
+        for (String s : ring) {
+            all.append(s);
+        }
+        assertEquals("0a1a", all.toString());
+        assertEquals(2, ring.size());
+        assertTrue(ring.contains("1a"));
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testLockFreeCircularListStress() throws InterruptedException {
+        LockFreeCircularList<Integer> ring = new LockFreeCircularList<>();
+        int threads = 4;
+        int perThread = 5000;
+        Thread[] workers = new Thread[threads];
+        // asserts in other threads cannot fail the test, so keep the first
+        // thing any worker or the reader throws and check it after joining
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        ring.addToBack(base + i);
+                        // every thread removes its own odd values
+                        if (i % 2 == 1 && !ring.remove(base + i)) {
+                            throw new AssertionError("lost " + (base + i));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            try {
+                LockFreeCircularList<Integer>.RingCursor cursor =
+                    ring.cursor();
+                for (int i = 0; i < 20000; i++) {
+                    cursor.next();
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        reader.start();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(threads * perThread / 2, ring.size());
+        int count = 0;
+        int[] lastSeen = new int[threads];
+        Arrays.fill(lastSeen, -1);
+        for (int value : ring) {
+            assertEquals(0, value % 2);
+            // each thread's values keep their relative order
+            int t = value / perThread;
+            assertTrue(value > lastSeen[t]);
+            lastSeen[t] = value;
+            count++;
+        }
+        assertEquals(threads * perThread / 2, count);
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPooledSinglyLinkedList() {
+        PooledSinglyLinkedList<String> pooled = new PooledSinglyLinkedList<>(4);
+        for (int round = 0; round < 10; round++) {
+            pooled.addToBack("0a");
+            pooled.addToBack("1a");
+            pooled.addToFront("2a"); // 2a 0a 1a
+            assertArrayEquals(new Object[] {"2a", "0a", "1a"},
+                    pooled.toArray());
+            assertEquals("2a", pooled.removeFromFront());
+            assertEquals("1a", pooled.removeFromBack());
+            assertEquals("0a", pooled.removeAtIndex(0));
+            assertNull(pooled.getHead());
+        }
+        assertEquals(0, pooled.size());
+        assertEquals(3, pooled.getAllocations());
+        assertEquals(27, pooled.getReuses());
+        assertEquals(3, pooled.getPoolSize());
+
+        for (int i = 0; i < 6; i++) {
+            pooled.addToBack(i + "a");
+        }
+        assertEquals("5a", pooled.get(5));
+        assertSame(pooled.getHead(), pooled.getHead().getNext().getNext()
+                .getNext().getNext().getNext().getNext());
+        pooled.clear();
+        assertTrue(pooled.isEmpty());
+        assertEquals(4, pooled.getPoolSize());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Your implementation of a lock-free circular singly linked list.
+ *
+ * Follows Harris's non-blocking linked list. Every next pointer carries a
+ * mark bit, and a node is logically removed by marking its own next
+ * pointer, which also freezes it so no node can be linked after it. Marked
+ * nodes are then physically unlinked by whichever thread next walks past
+ * them. A sentinel node closes the ring, so the last node always points
+ * back to the sentinel and the ring can be walked round and round.
+ *
+ * addToBack, remove and traversal are all lock-free. Readers never lock or
+ * CAS; they just follow next pointers and skip marked nodes, so many
+ * threads can traverse the ring while it changes. A traversal is not
+ * wait-free, though: while other threads keep appending, a reader walking
+ * towards the end of the ring may have to keep walking.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class LockFreeCircularList<T> implements Iterable<T> {
+
+    /**
+     * A node of the ring whose next pointer carries the removal mark.
+     *
+     * @param <T> the type of data in the node
+     */
+    private static class Node<T> {
+        private final T data;
+        private final AtomicMarkableReference<Node<T>> next;
+
+        /**
+         * Creates a node holding data and pointing to next.
+         *
+         * @param data the data of the node, null for the sentinel
+         * @param next the next node
+         */
+        Node(T data, Node<T> next) {
+            this.data = data;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+
+        /**
+         * Returns whether the node has been logically removed.
+         *
+         * @return true if the node is marked; false otherwise
+         */
+        boolean isMarked() {
+            return next.isMarked();
+        }
+    }
+
+    private final Node<T> sentinel;
+    private final AtomicReference<Node<T>> tail;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Constructs a new, empty LockFreeCircularList.
+     */
+    public LockFreeCircularList() {
+        sentinel = new Node<>(null, null);
+        sentinel.next.set(sentinel, false);
+        tail = new AtomicReference<>(sentinel);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Starts from a tail hint that may lag behind, and walks forward to the
+     * real last node, unlinking removed nodes on the way. Lock-free.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        Node<T> node = new Node<>(data, sentinel);
+        while (true) {
+            Node<T> hint = tail.get();
+            Node<T> pred = hint.isMarked() ? sentinel : hint;
+            Node<T> last = findLast(pred);
+            if (last != null
+                && last.next.compareAndSet(sentinel, node, false, false)) {
+                size.incrementAndGet();
+                tail.compareAndSet(hint, node);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Walks forward from an unmarked node to the node pointing back to the
+     * sentinel, unlinking marked nodes on the way.
+     *
+     * @param pred the node to start from
+     * @return the last node, or null if the walk ran into interference and
+     * should be retried
+     */
+    private Node<T> findLast(Node<T> pred) {
+        boolean[] marked = new boolean[1];
+        Node<T> curr = pred.next.getReference();
+        while (curr != sentinel) {
+            Node<T> succ = curr.next.get(marked);
+            if (marked[0]) {
+                if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                    return null;
+                }
+            } else {
+                pred = curr;
+            }
+            curr = succ;
+        }
+        return pred;
+    }
+
+    /**
+     * Removes the first element equal to the given data.
+     *
+     * Marks the node first, which is the point where it counts as removed,
+     * then tries once to unlink it; if that fails, a later walk unlinks it.
+     * Lock-free.
+     *
+     * @param data the data to remove
+     * @return true if an element was removed; false otherwise
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean remove(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        boolean[] marked = new boolean[1];
+        retry:
+        while (true) {
+            Node<T> pred = sentinel;
+            Node<T> curr = pred.next.getReference();
+            while (curr != sentinel) {
+                Node<T> succ = curr.next.get(marked);
+                if (marked[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) {
+                        continue retry;
+                    }
+                    curr = succ;
+                } else if (curr.data.equals(data)) {
+                    if (!curr.next.compareAndSet(succ, succ, false, true)) {
+                        continue retry;
+                    }
+                    size.decrementAndGet();
+                    pred.next.compareAndSet(curr, succ, false, false);
+                    return true;
+                } else {
+                    pred = curr;
+                    curr = succ;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the list contains the given data. Never locks or
+     * CASes, but may walk past nodes appended while it runs.
+     *
+     * @param data the data to look for
+     * @return true if the data is in the list; false otherwise
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean contains(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        for (Node<T> curr = sentinel.next.getReference(); curr != sentinel;
+             curr = curr.next.getReference()) {
+            if (!curr.isMarked() && curr.data.equals(data)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns an iterator over the list, front to back, that ends when it
+     * gets back around to the start of the ring.
+     *
+     * The iterator is weakly consistent: it never throws
+     * ConcurrentModificationException and may or may not see changes made
+     * while it runs.
+     *
+     * @return an iterator over the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> next = advance(sentinel);
+
+            @Override
+            public boolean hasNext() {
+                return next != sentinel;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                T data = next.data;
+                next = advance(next);
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Returns a cursor that goes round the ring forever, for round-robin
+     * use. Like the iterator, it only reads next pointers.
+     *
+     * @return a new round-robin cursor
+     */
+    public RingCursor cursor() {
+        return new RingCursor();
+    }
+
+    /**
+     * A cursor cycling through the elements of the ring.
+     */
+    public class RingCursor {
+        private Node<T> position = sentinel;
+
+        /**
+         * Moves to the next element of the ring, wrapping around past the
+         * end, and returns it.
+         *
+         * @return the next element, or null if the list is empty
+         */
+        public T next() {
+            Node<T> node = advance(position);
+            if (node == sentinel) {
+                node = advance(sentinel);
+                if (node == sentinel) return null;
+            }
+            position = node;
+            return node.data;
+        }
+    }
+
+    /**
+     * Returns the first unmarked node after the given node, or the
+     * sentinel if there is none before the end of the ring.
+     *
+     * @param node the node to start after
+     * @return the next live node or the sentinel
+     */
+    private Node<T> advance(Node<T> node) {
+        Node<T> curr = node.next.getReference();
+        while (curr != sentinel && curr.isMarked()) {
+            curr = curr.next.getReference();
+        }
+        return curr;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return advance(sentinel) == sentinel;
+    }
+
+    /**
+     * Returns the number of elements in the list. Since other threads may
+     * be changing the list, this is only a snapshot.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size.get();
+    }
+
+}
@@ -0,0 +1,327 @@
+/**
+ * Your implementation of a circular singly linked list that recycles its
+ * nodes.
+ *
+ * Follows the SinglyLinkedList contract, but every instance keeps its own
+ * bounded free list of LinkedListNodes. A removed node is cleared and put
+ * on the free list, and the next add takes it from there instead of
+ * allocating, so a list whose size stays within the pool capacity of its
+ * peak allocates nothing in steady state. Pooling is opt-in: only lists
+ * created as PooledSinglyLinkedList recycle nodes.
+ *
+ * Since nodes are reused, a node obtained from getHead() must not be held
+ * on to after its element has been removed from the list.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class PooledSinglyLinkedList<T> {
+
+    /**
+     * The number of free nodes a list keeps by default.
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 16;
+
+    private LinkedListNode<T> head;
+    private int size;
+
+    private final int poolCapacity;
+    // free nodes, linked through their next pointers
+    private LinkedListNode<T> free;
+    private int freeCount;
+    private long allocations;
+    private long reuses;
+
+    /**
+     * Constructs an empty list keeping up to DEFAULT_POOL_CAPACITY free
+     * nodes.
+     */
+    public PooledSinglyLinkedList() {
+        this(DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list keeping up to poolCapacity free nodes.
+     *
+     * @param poolCapacity the maximum number of free nodes to keep
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public PooledSinglyLinkedList(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException();
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Returns a node holding the given data and next node, taking it from
+     * the free list if there is one.
+     *
+     * @param data the data to store in the node
+     * @param next the next node
+     * @return a node holding data and next
+     */
+    private LinkedListNode<T> acquire(T data, LinkedListNode<T> next) {
+        if (free == null) {
+            allocations++;
+            return new LinkedListNode<>(data, next);
+        }
+        LinkedListNode<T> node = free;
+        free = node.getNext();
+        freeCount--;
+        reuses++;
+        node.setData(data);
+        node.setNext(next);
+        return node;
+    }
+
+    /**
+     * Puts a node that is no longer linked into the list on the free list,
+     * cleared so it does not keep its data reachable. If the free list is
+     * full, the node is left to the garbage collector.
+     *
+     * @param node the node to recycle
+     */
+    private void release(LinkedListNode<T> node) {
+        node.setData(null);
+        if (freeCount == poolCapacity) {
+            node.setNext(null);
+            return;
+        }
+        node.setNext(free);
+        free = node;
+        freeCount++;
+    }
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Adding to indices 0 and {@code size} should be O(1), all other cases are
+     * O(n).
+     *
+     * @param index the requested index for the new element
+     * @param data the data for the new element
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index > size
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+
+        if (size == 0) {
+            head = acquire(data, null);
+            head.setNext(head);
+        } else {
+            LinkedListNode<T> node = head;
+            for (int i = 0; i < index; i++) {
+                node = node.getNext();
+            }
+            LinkedListNode<T> newNode = acquire(node.getData(), node.getNext());
+            node.setData(data);
+            node.setNext(newNode);
+            if (index == size) {
+                head = newNode;
+            }
+        }
+
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     *
+     * Removing from index 0 should be O(1), all other cases are O(n).
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        LinkedListNode<T> node = head;
+        for (int i = 0; i < index; i++) {
+            node = node.getNext();
+        }
+        T data = node.getData();
+        LinkedListNode<T> unlinked;
+        if (size == 1) {
+            unlinked = head;
+            head = null;
+        } else {
+            // copy the next element back and unlink its node instead
+            unlinked = node.getNext();
+            node.setData(unlinked.getData());
+            node.setNext(unlinked.getNext());
+        }
+
+        // the last node took over the old head's data and next pointer
+        if (--size == index && size > 0) head = node;
+        // only recycle once nothing in the list points to the node
+        release(unlinked);
+        return data;
+    }
+
+    /**
+     * Removes and returns the element at the front of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return the data formerly located at the front
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromFront() {
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the element at the back of the list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return the data formerly located at the back
+     * @throws IndexOutOfBoundsException if the list is empty
+     */
+    public T removeFromBack() {
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Getting index 0 should be O(1), all other cases are O(n).
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        LinkedListNode<T> node = head;
+        for (int i = 0; i < index; i++) {
+            node = node.getNext();
+        }
+        return node.getData();
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order
+     */
+    public Object[] toArray() {
+        LinkedListNode<T> node = head;
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = node.getData();
+            node = node.getNext();
+        }
+        return array;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all data. Nodes are moved to the free list until
+     * it is full, and the rest are left to the garbage collector.
+     *
+     * Must be O(pool capacity) for all cases.
+     */
+    public void clear() {
+        LinkedListNode<T> node = head;
+        for (int i = 0; i < size && freeCount < poolCapacity; i++) {
+            LinkedListNode<T> next = node.getNext();
+            release(node);
+            node = next;
+        }
+        head = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     *
+     * @return node at the head of the linked list
+     */
+    public LinkedListNode<T> getHead() {
+        return head;
+    }
+
+    /**
+     * Returns the number of free nodes currently kept for reuse.
+     *
+     * @return the number of free nodes
+     */
+    public int getPoolSize() {
+        return freeCount;
+    }
+
+    /**
+     * Returns how many nodes the list had to allocate because its free list
+     * was empty.
+     *
+     * @return the number of node allocations
+     */
+    public long getAllocations() {
+        return allocations;
+    }
+
+    /**
+     * Returns how many nodes the list took from its free list instead of
+     * allocating.
+     *
+     * @return the number of node reuses
+     */
+    public long getReuses() {
+        return reuses;
+    }
+
+}
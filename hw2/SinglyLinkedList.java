@@ -1,3 +1,9 @@
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
 /**
  * Your implementation of a circular singly linked list.
  * @author Abdullojon Yusupov
@@ -94,7 +100,8 @@ public class SinglyLinkedList<T> {
             node.setNext(node.getNext().getNext());
         }
 
-        if (--size == index) head = node;
+        // the last node took over the old head's data and next pointer
+        if (--size == index && size > 0) head = node;
         return data;
     }
 
@@ -146,6 +153,308 @@ public class SinglyLinkedList<T> {
         else return null;
     }
 
+    /**
+     * Moves all elements of the other list to the back of this list, leaving
+     * the other list empty. No nodes are copied or allocated.
+     *
+     * Both lists are circular, so swapping the next pointers of the two
+     * heads joins the rings into one, and swapping the heads' data puts the
+     * elements back in order with the other list's old head node as the
+     * new head.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param other the list whose elements are moved to the back of this one
+     * @throws IllegalArgumentException if other is null or this list
+     */
+    public void append(SinglyLinkedList<T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (other.size == 0) return;
+
+        if (size == 0) {
+            head = other.head;
+        } else {
+            LinkedListNode<T> otherHead = other.head;
+            swapNextAndData(head, otherHead);
+            head = otherHead;
+        }
+        size += other.size;
+        other.clear();
+    }
+
+    /**
+     * Splits the list at the given index. This list keeps the elements
+     * before index, and the elements from index on are moved, in order,
+     * into a new list that is returned. No nodes are copied or allocated.
+     *
+     * This is the inverse of append: swapping the next pointers and data of
+     * the head and the node at index cuts the ring in two.
+     *
+     * Must be O(index) for all cases.
+     *
+     * @param index the index of the first element to move
+     * @return a list holding the elements from index on
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index > size
+     */
+    public SinglyLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+
+        SinglyLinkedList<T> rest = new SinglyLinkedList<>();
+        if (index == size) return rest;
+        if (index == 0) {
+            drainTo(rest);
+            return rest;
+        }
+
+        LinkedListNode<T> node = head;
+        for (int i = 0; i < index; i++) {
+            node = node.getNext();
+        }
+        swapNextAndData(head, node);
+        rest.head = head;
+        rest.size = size - index;
+        head = node;
+        size = index;
+        return rest;
+    }
+
+    /**
+     * Moves all elements of this list to the back of the given list,
+     * leaving this list empty.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param target the list that takes ownership of this list's elements
+     * @throws IllegalArgumentException if target is null or this list
+     */
+    public void drainTo(SinglyLinkedList<T> target) {
+        if (target == null) throw new IllegalArgumentException();
+        target.append(this);
+    }
+
+    /**
+     * Swaps the next pointers and the data of two nodes.
+     *
+     * @param a the first node
+     * @param b the second node
+     */
+    private void swapNextAndData(LinkedListNode<T> a, LinkedListNode<T> b) {
+        LinkedListNode<T> next = a.getNext();
+        a.setNext(b.getNext());
+        b.setNext(next);
+        T data = a.getData();
+        a.setData(b.getData());
+        b.setData(data);
+    }
+
+    /**
+     * Removes every element matching the given predicate in a single pass.
+     *
+     * The filter is run over every element first, and only then are the
+     * kept nodes relinked into a new ring, so this is O(n) no matter how
+     * many elements are removed, instead of rewalking the list from the
+     * head for every removal. If the filter throws, the list is unchanged.
+     *
+     * @param filter the condition selecting the elements to remove
+     * @return true if any element was removed; false otherwise
+     * @throws IllegalArgumentException if filter is null
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) throw new IllegalArgumentException();
+        if (size == 0) return false;
+
+        boolean[] removed = new boolean[size];
+        LinkedListNode<T> node = head;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            removed[i] = filter.test(node.getData());
+            if (!removed[i]) kept++;
+            node = node.getNext();
+        }
+        if (kept == size) return false;
+
+        LinkedListNode<T> first = null;
+        LinkedListNode<T> last = null;
+        node = head;
+        for (int i = 0; i < size; i++) {
+            LinkedListNode<T> next = node.getNext();
+            if (!removed[i]) {
+                if (first == null) {
+                    first = node;
+                } else {
+                    last.setNext(node);
+                }
+                last = node;
+            }
+            node = next;
+        }
+        if (last != null) last.setNext(first);
+        head = first;
+        size = kept;
+        return true;
+    }
+
+    /**
+     * Keeps only the elements contained in the given collection, in a
+     * single pass over the list.
+     *
+     * @param keep the elements to keep
+     * @return true if any element was removed; false otherwise
+     * @throws IllegalArgumentException if keep is null
+     */
+    public boolean retainAll(Collection<?> keep) {
+        if (keep == null) throw new IllegalArgumentException();
+        return removeIf(data -> !keep.contains(data));
+    }
+
+    /**
+     * Returns a cursor positioned before the first element of the list.
+     *
+     * @return a new cursor over the list
+     */
+    public ListCursor cursor() {
+        return new ListCursor();
+    }
+
+    /**
+     * A cursor walking the list front to back that can insert and remove
+     * elements at its position in O(1).
+     *
+     * The cursor is fail-fast on a best-effort basis: it remembers the
+     * list's size and head node after each change it makes itself, and if
+     * either differs on its next call, the list was changed behind its back
+     * and it throws ConcurrentModificationException. The list itself keeps
+     * no modification counter.
+     */
+    public class ListCursor implements Iterator<T> {
+        // the node after which the next element lies, null for the head
+        private LinkedListNode<T> anchor;
+        // the node returned by the last call to next, null if none
+        private LinkedListNode<T> current;
+        // the node before current, null if current is the head
+        private LinkedListNode<T> beforeCurrent;
+        private int nextIndex;
+        // the list's size and head as this cursor last left them
+        private int expectedSize = size;
+        private LinkedListNode<T> expectedHead = head;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /**
+         * Moves the cursor past the next element and returns it.
+         *
+         * Must be O(1).
+         *
+         * @return the next element
+         * @throws NoSuchElementException if there is no next element
+         * @throws ConcurrentModificationException if the list was changed
+         * other than through this cursor
+         */
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) throw new NoSuchElementException();
+
+            LinkedListNode<T> node = anchor == null ? head : anchor.getNext();
+            beforeCurrent = anchor;
+            current = node;
+            anchor = node;
+            nextIndex++;
+            return node.getData();
+        }
+
+        /**
+         * Inserts data right after the cursor position and moves the cursor
+         * past it, so the next call to next is unaffected.
+         *
+         * Must be O(1).
+         *
+         * @param data the data to insert
+         * @throws IllegalArgumentException if data is null
+         * @throws ConcurrentModificationException if the list was changed
+         * other than through this cursor
+         */
+        public void insertAfter(T data) {
+            checkForComodification();
+            if (data == null) throw new IllegalArgumentException();
+
+            if (anchor == null) {
+                addToFront(data);
+                anchor = head;
+            } else {
+                LinkedListNode<T> node =
+                    new LinkedListNode<>(data, anchor.getNext());
+                anchor.setNext(node);
+                anchor = node;
+                size++;
+            }
+            current = null;
+            nextIndex++;
+            syncWithList();
+        }
+
+        /**
+         * Removes the element returned by the last call to next.
+         *
+         * Must be O(1).
+         *
+         * @return the removed data
+         * @throws IllegalStateException if next has not been called, or the
+         * element was already removed or followed by an insert
+         * @throws ConcurrentModificationException if the list was changed
+         * other than through this cursor
+         */
+        public T removeCurrent() {
+            checkForComodification();
+            if (current == null) throw new IllegalStateException();
+
+            T data = current.getData();
+            if (beforeCurrent != null) {
+                beforeCurrent.setNext(current.getNext());
+                anchor = beforeCurrent;
+                size--;
+            } else {
+                // current is the head, so the head trick keeps this O(1)
+                removeFromFront();
+                anchor = null;
+            }
+            current = null;
+            nextIndex--;
+            syncWithList();
+            return data;
+        }
+
+        @Override
+        public void remove() {
+            removeCurrent();
+        }
+
+        /**
+         * Remembers the list's size and head after a change made through
+         * this cursor.
+         */
+        private void syncWithList() {
+            expectedSize = size;
+            expectedHead = head;
+        }
+
+        /**
+         * Throws if the list's size or head changed since this cursor last
+         * looked, i.e. the list was changed other than through it.
+         */
+        private void checkForComodification() {
+            if (size != expectedSize || head != expectedHead) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
     /**
      * Returns the element at the specified index.
      *
@@ -0,0 +1,386 @@
+/**
+ * Your implementation of a circular unrolled linked list.
+ *
+ * Has the same API as SinglyLinkedList, but each node stores up to
+ * {@code NODE_CAPACITY} elements in a small array. Walking the list touches
+ * one node per block of elements instead of one per element, and there is
+ * one node header per block instead of one per element. Full nodes are
+ * split on insert and sparse nodes are merged with their successor on
+ * remove, so nodes stay at least half full in steady state.
+ *
+ * The list keeps a pointer to its tail; the head is always the node after
+ * the tail.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class UnrolledLinkedList<T> {
+
+    /**
+     * The number of elements each node can hold.
+     */
+    public static final int NODE_CAPACITY = 32;
+
+    private UnrolledListNode<T> tail;
+    private int size;
+
+    /**
+     * Adds the element to the index specified.
+     *
+     * Adding to indices 0 and {@code size} should be O(1), all other cases
+     * are O(n / NODE_CAPACITY + NODE_CAPACITY).
+     *
+     * @param index the requested index for the new element
+     * @param data the data for the new element
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index > size
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addAtIndex(int index, T data) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        if (data == null) throw new IllegalArgumentException();
+
+        if (size == 0) {
+            tail = new UnrolledListNode<>(NODE_CAPACITY);
+            tail.setNext(tail);
+            insert(tail, 0, data);
+        } else if (index == size) {
+            if (tail.isFull()) {
+                tail = linkAfter(tail);
+            }
+            insert(tail, tail.getCount(), data);
+        } else if (index == 0 && tail.getNext().isFull()) {
+            insert(linkAfter(tail), 0, data);
+        } else {
+            UnrolledListNode<T> node = tail.getNext();
+            int offset = index;
+            while (offset > node.getCount()) {
+                offset -= node.getCount();
+                node = node.getNext();
+            }
+            if (node.isFull()) {
+                UnrolledListNode<T> half = split(node);
+                if (offset > node.getCount()) {
+                    offset -= node.getCount();
+                    node = half;
+                }
+            }
+            insert(node, offset, data);
+        }
+
+        size++;
+    }
+
+    /**
+     * Creates an empty node and links it right after the given node.
+     *
+     * @param node the node to link after
+     * @return the new node
+     */
+    private UnrolledListNode<T> linkAfter(UnrolledListNode<T> node) {
+        UnrolledListNode<T> newNode = new UnrolledListNode<>(NODE_CAPACITY);
+        newNode.setNext(node.getNext());
+        node.setNext(newNode);
+        return newNode;
+    }
+
+    /**
+     * Moves the back half of a full node into a new node linked after it.
+     *
+     * @param node the node to split
+     * @return the new node holding the back half
+     */
+    private UnrolledListNode<T> split(UnrolledListNode<T> node) {
+        UnrolledListNode<T> half = linkAfter(node);
+        int keep = node.getCount() / 2;
+        int move = node.getCount() - keep;
+        System.arraycopy(node.getElements(), keep, half.getElements(), 0,
+                move);
+        clearSlots(node, keep, node.getCount());
+        node.setCount(keep);
+        half.setCount(move);
+        if (node == tail) tail = half;
+        return half;
+    }
+
+    /**
+     * Inserts data at the given offset of a node that is not full.
+     *
+     * @param node the node to insert into
+     * @param offset the offset within the node
+     * @param data the data to insert
+     */
+    private void insert(UnrolledListNode<T> node, int offset, T data) {
+        T[] elements = node.getElements();
+        System.arraycopy(elements, offset, elements, offset + 1,
+                node.getCount() - offset);
+        elements[offset] = data;
+        node.setCount(node.getCount() + 1);
+    }
+
+    /**
+     * Nulls out the slots of a node between from, inclusive, and to,
+     * exclusive.
+     *
+     * @param node the node to clear slots of
+     * @param from the first slot to clear
+     * @param to the slot after the last one to clear
+     */
+    private void clearSlots(UnrolledListNode<T> node, int from, int to) {
+        T[] elements = node.getElements();
+        for (int i = from; i < to; i++) {
+            elements[i] = null;
+        }
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @param data the data for the new element
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element from the index specified.
+     *
+     * Removing from index 0 should be O(1), all other cases are
+     * O(n / NODE_CAPACITY + NODE_CAPACITY).
+     *
+     * @param index the requested index to be removed
+     * @return the data formerly located at index
+     * @throws IndexOutOfBoundsException if index is negative or
+     * index >= size
+     */
+    public T removeAtIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        UnrolledListNode<T> prev = tail;
+        UnrolledListNode<T> node = tail.getNext();
+        int offset = index;
+        while (offset >= node.getCount()) {
+            offset -= node.getCount();
+            prev = node;
+            node = node.getNext();
+        }
+        return remove(prev, node, offset);
+    }
+
+    /**
+     * Removes the data at the given offset of a node, unlinking the node if
+     * it becomes empty or merging it with its successor if it becomes
+     * sparse.
+     *
+     * @param prev the node before node
+     * @param node the node to remove from
+     * @param offset the offset within the node
+     * @return the removed data
+     */
+    private T remove(UnrolledListNode<T> prev, UnrolledListNode<T> node,
+                     int offset) {
+        T[] elements = node.getElements();
+        T data = elements[offset];
+        int count = node.getCount() - 1;
+        System.arraycopy(elements, offset + 1, elements, offset,
+                count - offset);
+        elements[count] = null;
+        node.setCount(count);
+        size--;
+
+        if (size == 0) {
+            tail = null;
+        } else if (count == 0) {
+            prev.setNext(node.getNext());
+            if (node == tail) tail = prev;
+        } else if (count < NODE_CAPACITY / 2 && node != tail) {
+            UnrolledListNode<T> next = node.getNext();
+            if (count + next.getCount() <= NODE_CAPACITY) {
+                System.arraycopy(next.getElements(), 0, elements, count,
+                        next.getCount());
+                node.setCount(count + next.getCount());
+                node.setNext(next.getNext());
+                if (next == tail) tail = node;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Removes and returns the element at the front of the list. If the list
+     * is empty, return {@code null}.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return the data formerly located at the front, null if empty list
+     */
+    public T removeFromFront() {
+        if (size == 0) return null;
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the element at the back of the list. If the list
+     * is empty, return {@code null}.
+     *
+     * Must be O(n / NODE_CAPACITY) for all cases.
+     *
+     * @return the data formerly located at the back, null if empty list
+     */
+    public T removeFromBack() {
+        if (size == 0) return null;
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Removes the last copy of the given data from the list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @param data the data to be removed from the list
+     * @return the removed data occurrence from the list itself (not the data
+     * passed in), null if no occurrence
+     * @throws IllegalArgumentException if data is null
+     */
+    public T removeLastOccurrence(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        if (size == 0) return null;
+
+        UnrolledListNode<T> prev = tail;
+        UnrolledListNode<T> node = tail.getNext();
+        UnrolledListNode<T> foundPrev = null;
+        UnrolledListNode<T> found = null;
+        int foundOffset = -1;
+        do {
+            T[] elements = node.getElements();
+            for (int i = node.getCount() - 1; i >= 0; i--) {
+                if (elements[i].equals(data)) {
+                    foundPrev = prev;
+                    found = node;
+                    foundOffset = i;
+                    break;
+                }
+            }
+            prev = node;
+            node = node.getNext();
+        } while (prev != tail);
+
+        if (found == null) return null;
+        return remove(foundPrev, found, foundOffset);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Getting index 0 or any index in the tail node is O(1), all other cases
+     * are O(n / NODE_CAPACITY).
+     *
+     * @param index the index of the requested element
+     * @return the object stored at index
+     * @throws IndexOutOfBoundsException if index < 0 or
+     * index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+
+        int tailStart = size - tail.getCount();
+        if (index >= tailStart) {
+            return tail.getElements()[index - tailStart];
+        }
+        UnrolledListNode<T> node = tail.getNext();
+        int offset = index;
+        while (offset >= node.getCount()) {
+            offset -= node.getCount();
+            node = node.getNext();
+        }
+        return node.getElements()[offset];
+    }
+
+    /**
+     * Returns an array representation of the linked list.
+     *
+     * Must be O(n) for all cases.
+     *
+     * @return an array of length {@code size} holding all of the objects in
+     * this list in the same order
+     */
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        if (size == 0) return array;
+
+        UnrolledListNode<T> node = tail.getNext();
+        int i = 0;
+        do {
+            System.arraycopy(node.getElements(), 0, array, i,
+                    node.getCount());
+            i += node.getCount();
+            node = node.getNext();
+        } while (node != tail.getNext());
+        return array;
+    }
+
+    /**
+     * Returns a boolean value indicating if the list is empty.
+     *
+     * Must be O(1) for all cases.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the list of all data.
+     *
+     * Must be O(1) for all cases.
+     */
+    public void clear() {
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the head node of the linked list.
+     *
+     * @return node at the head of the linked list
+     */
+    public UnrolledListNode<T> getHead() {
+        return tail == null ? null : tail.getNext();
+    }
+
+    /**
+     * Returns the tail node of the linked list.
+     *
+     * @return node at the tail of the linked list
+     */
+    public UnrolledListNode<T> getTail() {
+        return tail;
+    }
+
+}
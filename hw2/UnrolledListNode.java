@@ -0,0 +1,86 @@
+/**
+ * Node class used for implementing the circular UnrolledLinkedList.
+ *
+ * Each node holds up to a fixed number of elements in a small array, packed
+ * at the front of the array.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class UnrolledListNode<T> {
+    private final T[] elements;
+    private int count;
+    private UnrolledListNode<T> next;
+
+    /**
+     * Creates a new, empty UnrolledListNode that can hold the given number
+     * of elements.
+     *
+     * @param capacity the maximum number of elements in the node
+     */
+    public UnrolledListNode(int capacity) {
+        elements = (T[]) new Object[capacity];
+        count = 0;
+    }
+
+    /**
+     * Gets the array holding the elements of the node. Only the first
+     * {@code getCount()} slots are in use.
+     *
+     * @return the elements array of this node
+     */
+    public T[] getElements() {
+        return elements;
+    }
+
+    /**
+     * Gets the number of elements stored in the node.
+     *
+     * @return the number of elements in this node
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of elements stored in the node.
+     *
+     * @param count the new number of elements
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Returns whether the node has no free slots left.
+     *
+     * @return true if the node is full; false otherwise
+     */
+    public boolean isFull() {
+        return count == elements.length;
+    }
+
+    /**
+     * Gets the next node.
+     *
+     * @return the next node
+     */
+    public UnrolledListNode<T> getNext() {
+        return next;
+    }
+
+    /**
+     * Sets the next node.
+     *
+     * @param next the new next node
+     */
+    public void setNext(UnrolledListNode<T> next) {
+        this.next = next;
+    }
+
+    @Override
+    public String toString() {
+        return "Node containing " + count + " elements";
+    }
+}
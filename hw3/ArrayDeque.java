@@ -0,0 +1,198 @@
+/**
+ * Your implementation of an array-backed double-ended queue.
+ *
+ * The elements are kept in a circular backing array like in ArrayQueue,
+ * but the array length is always a power of two, so a position wraps
+ * around with a mask instead of a modulo, and elements can be added and
+ * removed at both ends.
+ *
+ * Unlike ArrayQueue and ArrayStack, the backing array also shrinks. When a
+ * removal leaves the deque only a quarter full, the array is halved, never
+ * below {@code INITIAL_CAPACITY}. Since a halved array is still half empty,
+ * it takes many adds before it has to grow again, so alternating adds and
+ * removals around a boundary cannot make it resize over and over.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class ArrayDeque<T> {
+
+    /**
+     * The initial and smallest capacity of the deque.
+     */
+    public static final int INITIAL_CAPACITY = 8;
+
+    private T[] backingArray;
+    private int front;
+    private int size;
+
+    /**
+     * Constructs a new ArrayDeque.
+     */
+    public ArrayDeque() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the given data to the front of the deque.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        if (size == backingArray.length) resize(size * 2);
+        front = (front - 1) & (backingArray.length - 1);
+        backingArray[front] = data;
+        size++;
+    }
+
+    /**
+     * Adds the given data to the back of the deque.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void addLast(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        if (size == backingArray.length) resize(size * 2);
+        backingArray[(front + size) & (backingArray.length - 1)] = data;
+        size++;
+    }
+
+    /**
+     * Removes and returns the data at the front of the deque.
+     *
+     * Must be amortized O(1).
+     *
+     * @return the data from the front, or null if the deque is empty
+     */
+    public T pollFirst() {
+        if (size == 0) return null;
+        T data = backingArray[front];
+        backingArray[front] = null;
+        front = (front + 1) & (backingArray.length - 1);
+        size--;
+        shrinkIfSparse();
+        return data;
+    }
+
+    /**
+     * Removes and returns the data at the back of the deque.
+     *
+     * Must be amortized O(1).
+     *
+     * @return the data from the back, or null if the deque is empty
+     */
+    public T pollLast() {
+        if (size == 0) return null;
+        int index = (front + size - 1) & (backingArray.length - 1);
+        T data = backingArray[index];
+        backingArray[index] = null;
+        size--;
+        shrinkIfSparse();
+        return data;
+    }
+
+    /**
+     * Halves the backing array if the deque is at most a quarter full, and
+     * resets front to 0 if the deque is empty.
+     */
+    private void shrinkIfSparse() {
+        if (size == 0) front = 0;
+        if (backingArray.length > INITIAL_CAPACITY
+            && size <= backingArray.length / 4) {
+            resize(backingArray.length / 2);
+        }
+    }
+
+    /**
+     * Copies the elements in order to the front of a new backing array of
+     * the given capacity and resets front to 0.
+     *
+     * @param capacity the new capacity, a power of two of at least size
+     */
+    private void resize(int capacity) {
+        T[] newArray = (T[]) new Object[capacity];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newArray, 0, firstPart);
+        System.arraycopy(backingArray, 0, newArray, firstPart,
+                size - firstPart);
+        backingArray = newArray;
+        front = 0;
+    }
+
+    /**
+     * Retrieves the data at the front of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data at the front, or null if the deque is empty
+     */
+    public T peekFirst() {
+        if (size == 0) return null;
+        return backingArray[front];
+    }
+
+    /**
+     * Retrieves the data at the back of the deque without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data at the back, or null if the deque is empty
+     */
+    public T peekLast() {
+        if (size == 0) return null;
+        return backingArray[(front + size - 1) & (backingArray.length - 1)];
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the deque is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clears the deque and returns the backing array to its initial
+     * capacity.
+     *
+     * Must be O(1).
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return number of items in the deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of the deque.
+     *
+     * @return the backing array
+     */
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+
+}
@@ -0,0 +1,370 @@
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Your implementation of a bounded, blocking, array-backed queue.
+ *
+ * The elements are kept in a circular backing array exactly like in
+ * ArrayQueue, but the array never grows: once it is full, producers wait
+ * until a consumer makes room, and once it is empty, consumers wait until
+ * a producer adds something. This gives a pipeline backpressure instead of
+ * unbounded buffering.
+ *
+ * All waiting is done on the conditions of a single ReentrantLock rather
+ * than on a synchronized monitor, so a virtual thread that blocks here
+ * parks and frees its carrier thread instead of pinning it.
+ *
+ * The queue also keeps track of its deepest point and of how long
+ * producers and consumers have spent blocked in total, so a stalled stage
+ * can be spotted.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class BoundedBlockingQueue<T> {
+
+    private final T[] backingArray;
+    private int front;
+    private int size;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private int maxSize;
+    private long producerBlockedNanos;
+    private long consumerBlockedNanos;
+
+    /**
+     * Constructs a new BoundedBlockingQueue holding at most capacity
+     * elements.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public BoundedBlockingQueue(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException();
+        backingArray = (T[]) new Object[capacity];
+    }
+
+    /**
+     * Adds the given data to the queue, waiting for room if it is full.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put(T data) throws InterruptedException {
+        if (data == null) throw new IllegalArgumentException();
+
+        lock.lockInterruptibly();
+        try {
+            if (size == backingArray.length) {
+                long start = System.nanoTime();
+                try {
+                    while (size == backingArray.length) {
+                        notFull.await();
+                    }
+                } finally {
+                    producerBlockedNanos += System.nanoTime() - start;
+                }
+            }
+            enqueue(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given data to the queue if there is room, without waiting.
+     *
+     * @param data the data to add
+     * @return true if the data was added; false if the queue is full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        lock.lock();
+        try {
+            if (size == backingArray.length) return false;
+            enqueue(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the given data to the queue, waiting up to the given time for
+     * room if it is full.
+     *
+     * @param data the data to add
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return true if the data was added; false if the time ran out
+     * @throws IllegalArgumentException if data or unit is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean offer(T data, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        if (data == null || unit == null) throw new IllegalArgumentException();
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (size == backingArray.length) {
+                long start = System.nanoTime();
+                try {
+                    while (size == backingArray.length) {
+                        if (nanos <= 0) return false;
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                } finally {
+                    producerBlockedNanos += System.nanoTime() - start;
+                }
+            }
+            enqueue(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds data at the back of the backing array and wakes a consumer. The
+     * lock must be held and the queue must not be full.
+     *
+     * @param data the data to add
+     */
+    private void enqueue(T data) {
+        backingArray[(front + size) % backingArray.length] = data;
+        size++;
+        if (size > maxSize) maxSize = size;
+        notEmpty.signal();
+    }
+
+    /**
+     * Removes the data from the front of the queue, waiting for some to
+     * arrive if it is empty.
+     *
+     * @return the data from the front of the queue
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (size == 0) {
+                long start = System.nanoTime();
+                try {
+                    while (size == 0) {
+                        notEmpty.await();
+                    }
+                } finally {
+                    consumerBlockedNanos += System.nanoTime() - start;
+                }
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data from the front of the queue if there is any, without
+     * waiting.
+     *
+     * @return the data from the front of the queue, or null if it is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data from the front of the queue, waiting up to the given
+     * time for some to arrive if it is empty.
+     *
+     * @param timeout how long to wait, in units of unit
+     * @param unit the unit of timeout
+     * @return the data from the front of the queue, or null if the time
+     * ran out
+     * @throws IllegalArgumentException if unit is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (unit == null) throw new IllegalArgumentException();
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            if (size == 0) {
+                long start = System.nanoTime();
+                try {
+                    while (size == 0) {
+                        if (nanos <= 0) return null;
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                } finally {
+                    consumerBlockedNanos += System.nanoTime() - start;
+                }
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the data at the front of the backing array and wakes a
+     * producer. The lock must be held and the queue must not be empty.
+     *
+     * @return the removed data
+     */
+    private T dequeue() {
+        T data = backingArray[front];
+        backingArray[front] = null;
+        front = (front + 1) % backingArray.length;
+        if (--size == 0) front = 0;
+        notFull.signal();
+        return data;
+    }
+
+    /**
+     * Removes up to max elements from the front of the queue and adds them
+     * to the target collection, without waiting. The lock is taken once for
+     * the whole batch.
+     *
+     * @param target the collection to add the elements to
+     * @param max the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws IllegalArgumentException if target is null or max is
+     * negative
+     */
+    public int drainTo(Collection<? super T> target, int max) {
+        if (target == null || max < 0) throw new IllegalArgumentException();
+
+        lock.lock();
+        int count = 0;
+        try {
+            // each element leaves the queue as soon as target has it, so
+            // nothing is delivered twice if target throws
+            while (count < max && size > 0) {
+                target.add(backingArray[front]);
+                backingArray[front] = null;
+                front = (front + 1) % backingArray.length;
+                size--;
+                count++;
+            }
+            if (size == 0) front = 0;
+            return count;
+        } finally {
+            if (count > 0) notFull.signalAll();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the next data to be removed without removing it.
+     *
+     * @return the next data or null if the queue is empty
+     */
+    public T peek() {
+        lock.lock();
+        try {
+            return size == 0 ? null : backingArray[front];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current number of elements in the queue, i.e. its depth.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many more elements the queue can take before producers
+     * have to wait.
+     *
+     * @return the remaining capacity
+     */
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return backingArray.length - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the largest number of elements the queue has held at once.
+     *
+     * @return the maximum depth reached
+     */
+    public int getMaxSize() {
+        lock.lock();
+        try {
+            return maxSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the total time producers have spent waiting for room.
+     *
+     * @param unit the unit of the result
+     * @return the time producers were blocked
+     */
+    public long getProducerBlockedTime(TimeUnit unit) {
+        lock.lock();
+        try {
+            return unit.convert(producerBlockedNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the total time consumers have spent waiting for data.
+     *
+     * @param unit the unit of the result
+     * @return the time consumers were blocked
+     */
+    public long getConsumerBlockedTime(TimeUnit unit) {
+        lock.lock();
+        try {
+            return unit.convert(consumerBlockedNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the backing array of the queue.
+     *
+     * @return the backing array
+     */
+    public Object[] getBackingArray() {
+        return backingArray;
+    }
+
+}
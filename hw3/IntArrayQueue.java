@@ -0,0 +1,196 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Your implementation of an array-backed queue specialized for int
+ * values.
+ *
+ * Mirrors the API of ArrayQueue, but stores the elements directly in a
+ * int[] so no element is ever boxed. Since there is no null to return,
+ * peek throws on an empty queue instead.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class IntArrayQueue {
+
+    private int[] backingArray;
+    private int front;
+    private int size;
+
+    /**
+     * The initial capacity of a queue with fixed-size backing storage.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new IntArrayQueue.
+     */
+    public IntArrayQueue() {
+        backingArray = new int[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the given data to the queue.
+     *
+     * This method should be implemented in amortized O(1) time.
+     *
+     * @param data the data to add
+     */
+    public void enqueue(int data) {
+        if (size == backingArray.length) {
+            resizeQueue(size * 2);
+        }
+        backingArray[(front + size) % backingArray.length] = data;
+        size++;
+    }
+
+    /**
+     * Adds all the given values to the queue in order. The backing array
+     * grows at most once.
+     *
+     * Must be O(length) amortized.
+     *
+     * @param values the array holding the values to add
+     * @param offset the index of the first value to add
+     * @param length the number of values to add
+     * @throws IllegalArgumentException if values is null
+     * @throws IndexOutOfBoundsException if offset or length is negative or
+     * offset + length > values.length
+     */
+    public void enqueueAll(int[] values, int offset, int length) {
+        if (values == null) throw new IllegalArgumentException();
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (size + length > backingArray.length) {
+            resizeQueue(Math.max(backingArray.length * 2, size + length));
+        }
+        int back = (front + size) % backingArray.length;
+        int firstPart = Math.min(length, backingArray.length - back);
+        System.arraycopy(values, offset, backingArray, back, firstPart);
+        System.arraycopy(values, offset + firstPart, backingArray, 0,
+                length - firstPart);
+        size += length;
+    }
+
+    /**
+     * Adds all the given values to the queue in order.
+     *
+     * Must be O(values.length) amortized.
+     *
+     * @param values the values to add
+     * @throws IllegalArgumentException if values is null
+     */
+    public void enqueueAll(int[] values) {
+        if (values == null) throw new IllegalArgumentException();
+        enqueueAll(values, 0, values.length);
+    }
+
+    /**
+     * Resizes queue to the given capacity, copying the elements to the
+     * front of the new array.
+     *
+     * @param capacity the new capacity of the queue.
+     */
+    private void resizeQueue(int capacity) {
+        int[] newArray = new int[capacity];
+        int firstPart = Math.min(size, backingArray.length - front);
+        System.arraycopy(backingArray, front, newArray, 0, firstPart);
+        System.arraycopy(backingArray, 0, newArray, firstPart,
+                size - firstPart);
+        backingArray = newArray;
+        front = 0;
+    }
+
+    /**
+     * Removes the data from the front of the queue.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public int dequeue() {
+        if (isEmpty()) throw new NoSuchElementException();
+        int tmp = backingArray[front];
+        backingArray[front] = 0;
+        front = (front + 1) % backingArray.length;
+        if (--size == 0) front = 0;
+        return tmp;
+    }
+
+    /**
+     * Dequeues elements into the target array until it is full or the
+     * queue is empty. The front element goes to index 0.
+     *
+     * Must be O(number of elements dequeued).
+     *
+     * @param target the array to dequeue into
+     * @return the number of elements dequeued
+     * @throws IllegalArgumentException if target is null
+     */
+    public int drain(int[] target) {
+        if (target == null) throw new IllegalArgumentException();
+
+        int count = Math.min(size, target.length);
+        int firstPart = Math.min(count, backingArray.length - front);
+        System.arraycopy(backingArray, front, target, 0, firstPart);
+        System.arraycopy(backingArray, 0, target, firstPart,
+                count - firstPart);
+        Arrays.fill(backingArray, front, front + firstPart, 0);
+        Arrays.fill(backingArray, 0, count - firstPart, 0);
+        front = (front + count) % backingArray.length;
+        size -= count;
+        if (size == 0) front = 0;
+        return count;
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the next data
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public int peek() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return backingArray[front];
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the queue is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of the queue.
+     *
+     * @return the backing array
+     */
+    public int[] getBackingArray() {
+        return backingArray;
+    }
+
+}
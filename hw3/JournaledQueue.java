@@ -0,0 +1,550 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+/**
+ * Your implementation of a persistent queue journaled to memory-mapped
+ * files.
+ *
+ * Follows the enqueue/dequeue/peek/size contract of the other hw3 queues,
+ * but the elements live in a directory of segment files, so the queue
+ * survives the process being restarted. Each record is stored as its
+ * length followed by its bytes, appended one after another. When a record
+ * does not fit into the current segment, a new segment is started, and a
+ * segment is deleted as soon as it has been read to the end, so the files
+ * roll forward as the queue is used.
+ *
+ * Every segment starts with a header holding where its next record goes
+ * and how many records it holds, updated after each record is written,
+ * and the index of its first record in the whole queue. A small cursor
+ * file holds how far reading has got. Reopening a queue therefore only
+ * reads the cursor and the headers of the first and last segments; no
+ * record is scanned and no segment in between is mapped.
+ *
+ * Writes go to the mapped files and reach the disk whenever the operating
+ * system flushes them, which already survives the process crashing. To
+ * also survive the machine crashing, the files are forced to disk every
+ * {@code syncEvery} operations, on every segment roll, and on close.
+ * Once closed, the queue throws IllegalStateException from every method
+ * but close.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class JournaledQueue<T> implements Closeable {
+
+    /**
+     * Converts records to and from their binary form.
+     *
+     * @param <T> the type of record
+     */
+    public interface RecordCodec<T> {
+
+        /**
+         * Returns the bytes of the record.
+         *
+         * @param data the record to encode
+         * @return the encoded record
+         */
+        byte[] encode(T data);
+
+        /**
+         * Rebuilds a record from its bytes.
+         *
+         * @param bytes the encoded record
+         * @return the record
+         */
+        T decode(byte[] bytes);
+    }
+
+    /**
+     * Codec storing each record as a UTF-8 string.
+     */
+    public static final RecordCodec<String> STRING_CODEC =
+        new RecordCodec<String>() {
+        @Override
+        public byte[] encode(String data) {
+            return data.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * The default size of a segment file in bytes.
+     */
+    public static final int SEGMENT_SIZE = 1 << 24;
+
+    private static final int MAGIC = 0x4A524E51;
+    private static final int HEADER_SIZE = 24;
+    // Position and count share one long, so one store commits a record.
+    private static final int WRITE_POS_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int FIRST_INDEX_OFFSET = 16;
+    // The cursor file holds two slots of segment, position and count, and
+    // the number of the slot in use, so one store commits a new cursor.
+    private static final int ACTIVE_SLOT_OFFSET = 4;
+    private static final int SLOTS_OFFSET = 8;
+    private static final int SLOT_SIZE = 16;
+    private static final int SLOT_POS_OFFSET = 8;
+    private static final int SLOT_COUNT_OFFSET = 12;
+    private static final int CURSOR_SIZE = SLOTS_OFFSET + 2 * SLOT_SIZE;
+    private static final String CURSOR_FILE = "cursor.dat";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final RecordCodec<T> codec;
+    private final int segmentSize;
+    private final int syncEvery;
+    private final MappedByteBuffer cursor;
+    private int activeSlot;
+
+    private long writeSegment;
+    private MappedByteBuffer writeBuffer;
+    private int writePos;
+    private int writeCount;
+    private long readSegment;
+    private MappedByteBuffer readBuffer;
+    private int readPos;
+    private int readCount;
+    private int size;
+    private int unsynced;
+    private boolean closed;
+
+    /**
+     * Opens the queue stored in the given directory with the default
+     * segment size, forcing it to disk only on segment rolls and on close.
+     *
+     * @param directory the directory holding the queue's files
+     * @param codec the codec for the records
+     * @throws IllegalArgumentException if directory or codec is null, or
+     * if the directory holds files that are not a queue
+     * @throws IOException if the files cannot be opened or mapped
+     */
+    public JournaledQueue(Path directory, RecordCodec<T> codec)
+        throws IOException {
+        this(directory, codec, SEGMENT_SIZE, 0);
+    }
+
+    /**
+     * Opens the queue stored in the given directory, creating an empty one
+     * if the directory holds none yet.
+     *
+     * @param directory the directory holding the queue's files
+     * @param codec the codec for the records
+     * @param segmentSize the size of each segment file in bytes
+     * @param syncEvery how many enqueues and dequeues may happen between
+     * forcing the files to disk, or 0 to force only on segment rolls and
+     * on close
+     * @throws IllegalArgumentException if directory or codec is null, if
+     * segmentSize is less than 64, if syncEvery is negative, or if the
+     * directory holds files that are not a queue
+     * @throws IOException if the files cannot be opened or mapped
+     */
+    public JournaledQueue(Path directory, RecordCodec<T> codec,
+                          int segmentSize, int syncEvery) throws IOException {
+        if (directory == null || codec == null || segmentSize < 64
+            || syncEvery < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.syncEvery = syncEvery;
+        Files.createDirectories(directory);
+
+        TreeSet<Long> segments = listSegments();
+        boolean created = Files.notExists(directory.resolve(CURSOR_FILE));
+        cursor = map(directory.resolve(CURSOR_FILE), CURSOR_SIZE);
+        if (created) {
+            readSegment = segments.isEmpty() ? 0 : segments.first();
+            readPos = HEADER_SIZE;
+            readCount = 0;
+            cursor.putInt(0, MAGIC);
+            saveCursor();
+        } else {
+            if (cursor.getInt(0) != MAGIC) throw new IllegalArgumentException();
+            activeSlot = cursor.getInt(ACTIVE_SLOT_OFFSET);
+            if (activeSlot != 0 && activeSlot != 1) {
+                throw new IllegalArgumentException();
+            }
+            int slot = SLOTS_OFFSET + activeSlot * SLOT_SIZE;
+            readSegment = cursor.getLong(slot);
+            readPos = cursor.getInt(slot + SLOT_POS_OFFSET);
+            readCount = cursor.getInt(slot + SLOT_COUNT_OFFSET);
+        }
+
+        // segments before the cursor were drained but not yet deleted
+        while (!segments.isEmpty() && segments.first() < readSegment) {
+            Files.deleteIfExists(segmentPath(segments.pollFirst()));
+        }
+
+        if (segments.isEmpty()) segments.add(readSegment);
+
+        // both segments exist unless the queue is new, in which case its
+        // first record is the queue's first
+        writeSegment = segments.last();
+        writeBuffer = openSegment(writeSegment, 0);
+        writePos = writeBuffer.getInt(WRITE_POS_OFFSET);
+        writeCount = writeBuffer.getInt(COUNT_OFFSET);
+        readBuffer = readSegment == writeSegment
+            ? writeBuffer : openSegment(readSegment, 0);
+
+        // every record from the read position to the end of the write
+        // segment is still queued
+        size = (int) (writeBuffer.getLong(FIRST_INDEX_OFFSET) + writeCount
+                - readBuffer.getLong(FIRST_INDEX_OFFSET) - readCount);
+        advanceIfDrained();
+    }
+
+    /**
+     * Returns the ids of the segment files in the directory, in order.
+     *
+     * @return the sorted segment ids
+     * @throws IOException if the directory cannot be listed
+     */
+    private TreeSet<Long> listSegments() throws IOException {
+        TreeSet<Long> segments = new TreeSet<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                segments.add(Long.parseLong(name.substring(
+                        SEGMENT_PREFIX.length(),
+                        name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the path of the segment file with the given id.
+     *
+     * @param segment the segment id
+     * @return the path of the segment file
+     */
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX,
+                segment, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Maps the segment with the given id, writing a fresh header if the
+     * segment is new.
+     *
+     * @param segment the segment id
+     * @param firstIndex the index in the whole queue of the segment's first
+     * record, stored if the segment is new
+     * @return the mapped segment
+     * @throws IOException if the segment cannot be opened or mapped
+     * @throws IllegalArgumentException if the file is not a segment of a
+     * queue with this segment size
+     */
+    private MappedByteBuffer openSegment(long segment, long firstIndex)
+        throws IOException {
+        Path path = segmentPath(segment);
+        boolean created = Files.notExists(path);
+        if (!created && Files.size(path) != segmentSize) {
+            throw new IllegalArgumentException();
+        }
+
+        MappedByteBuffer buffer = map(path, segmentSize);
+        if (created) {
+            buffer.putInt(0, MAGIC);
+            buffer.putLong(FIRST_INDEX_OFFSET, firstIndex);
+            commit(buffer, HEADER_SIZE, 0);
+        } else if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException();
+        }
+        return buffer;
+    }
+
+    /**
+     * Maps the first length bytes of the given file, creating and extending
+     * the file if necessary. The mapping stays valid after the channel is
+     * closed.
+     *
+     * @param path the file to map
+     * @param length the number of bytes to map
+     * @return the mapped region
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    private static MappedByteBuffer map(Path path, int length)
+        throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+    }
+
+    /**
+     * Adds the given data to the back of the queue, rolling over to a new
+     * segment if it does not fit into the current one.
+     *
+     * Must be amortized O(1) in the number of records.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null or its record does
+     * not fit into an empty segment
+     * @throws UncheckedIOException if a new segment cannot be created
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public void enqueue(T data) {
+        checkOpen();
+        if (data == null) throw new IllegalArgumentException();
+        byte[] bytes = codec.encode(data);
+        int length = Integer.BYTES + bytes.length;
+        if (length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException();
+        }
+
+        if (writePos + length > segmentSize) roll();
+        writeBuffer.putInt(writePos, bytes.length);
+        writeBuffer.put(writePos + Integer.BYTES, bytes);
+        writePos += length;
+        commit(writeBuffer, writePos, ++writeCount);
+        size++;
+        afterOperation();
+    }
+
+    /**
+     * Writes the write position and record count of a segment header with
+     * a single store, so a record is either fully counted or not at all.
+     *
+     * @param buffer the mapped segment
+     * @param pos the position of the next record
+     * @param count the number of records in the segment
+     */
+    private static void commit(MappedByteBuffer buffer, int pos, int count) {
+        buffer.putLong(WRITE_POS_OFFSET, (long) pos << 32 | count);
+    }
+
+    /**
+     * Forces the full write segment to disk and starts a new one.
+     *
+     * @throws UncheckedIOException if the new segment cannot be created
+     */
+    private void roll() {
+        writeBuffer.force();
+        long firstIndex = writeBuffer.getLong(FIRST_INDEX_OFFSET) + writeCount;
+        try {
+            writeBuffer = openSegment(++writeSegment, firstIndex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        writePos = HEADER_SIZE;
+        writeCount = 0;
+        // a reader waiting at the end of the old segment moves on with us
+        advanceIfDrained();
+    }
+
+    /**
+     * Removes the data from the front of the queue. A segment is deleted
+     * once it has been read to the end.
+     *
+     * Must be O(1) in the number of records.
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     * @throws UncheckedIOException if the record's stored length is
+     * corrupt or a drained segment cannot be deleted
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public T dequeue() {
+        checkOpen();
+        if (size == 0) throw new NoSuchElementException();
+
+        int length = recordLength();
+        T data = read(length);
+        readPos += Integer.BYTES + length;
+        readCount++;
+        size--;
+        saveCursor();
+        advanceIfDrained();
+        afterOperation();
+        return data;
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it.
+     *
+     * Must be O(1) in the number of records.
+     *
+     * @return the next data or null if the queue is empty
+     * @throws UncheckedIOException if the record's stored length is corrupt
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public T peek() {
+        checkOpen();
+        if (size == 0) return null;
+        return read(recordLength());
+    }
+
+    /**
+     * Returns the stored length of the record at the read position, after
+     * checking that its bytes lie within what has been written to the
+     * segment.
+     *
+     * @return the length of the record's bytes
+     * @throws UncheckedIOException if the stored length is out of range
+     */
+    private int recordLength() {
+        int length = readBuffer.getInt(readPos);
+        int written = readBuffer.getInt(WRITE_POS_OFFSET);
+        if (length < 0 || length > written - readPos - Integer.BYTES) {
+            throw new UncheckedIOException(
+                new IOException("Corrupt record length " + length));
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the record whose bytes follow the read position.
+     * The length must already have been checked by recordLength.
+     *
+     * @param length the length of the record's bytes
+     * @return the record
+     */
+    private T read(int length) {
+        byte[] bytes = new byte[length];
+        readBuffer.get(readPos + Integer.BYTES, bytes);
+        return codec.decode(bytes);
+    }
+
+    /**
+     * Moves the read cursor past segments that have been read to the end
+     * and are no longer written to, deleting them.
+     *
+     * @throws UncheckedIOException if a segment cannot be deleted or the
+     * next one cannot be mapped
+     */
+    private void advanceIfDrained() {
+        try {
+            while (readSegment < writeSegment
+                   && readPos == readBuffer.getInt(WRITE_POS_OFFSET)) {
+                long drained = readSegment++;
+                long firstIndex = readBuffer.getLong(FIRST_INDEX_OFFSET)
+                    + readBuffer.getInt(COUNT_OFFSET);
+                readBuffer = readSegment == writeSegment
+                    ? writeBuffer : openSegment(readSegment, firstIndex);
+                readPos = HEADER_SIZE;
+                readCount = 0;
+                // move the cursor before deleting, so a crash in between
+                // leaves a segment that reopening deletes
+                saveCursor();
+                cursor.force();
+                Files.deleteIfExists(segmentPath(drained));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the read cursor to the cursor file. The segment, position and
+     * count go into the slot not in use, and a single store then switches
+     * to that slot, so a crash at any point leaves either the old cursor or
+     * the new one, never a mix of the two.
+     */
+    private void saveCursor() {
+        int slot = 1 - activeSlot;
+        int offset = SLOTS_OFFSET + slot * SLOT_SIZE;
+        cursor.putLong(offset, readSegment);
+        cursor.putLong(offset + SLOT_POS_OFFSET,
+                (long) readPos << 32 | readCount);
+        cursor.putInt(ACTIVE_SLOT_OFFSET, slot);
+        activeSlot = slot;
+    }
+
+    /**
+     * Forces the files to disk if syncEvery operations have happened since
+     * the last time.
+     */
+    private void afterOperation() {
+        if (syncEvery > 0 && ++unsynced >= syncEvery) sync();
+    }
+
+    /**
+     * Throws if the queue has been closed.
+     */
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException();
+    }
+
+    /**
+     * Forces the current write segment and the read cursor to disk.
+     *
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public void sync() {
+        checkOpen();
+        writeBuffer.force();
+        cursor.force();
+        unsynced = 0;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the queue is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public boolean isEmpty() {
+        checkOpen();
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return number of items in the queue
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Returns the number of segment files the queue currently spans.
+     *
+     * @return the number of segments
+     * @throws IllegalStateException if the queue has been closed
+     */
+    public int getSegmentCount() {
+        checkOpen();
+        return (int) (writeSegment - readSegment + 1);
+    }
+
+    /**
+     * Forces the files to disk and closes the queue. The mappings are
+     * released once the queue is no longer referenced. Closing an already
+     * closed queue has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        sync();
+        closed = true;
+    }
+
+}
@@ -0,0 +1,176 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Your implementation of a lock-free linked queue.
+ *
+ * Follows the Michael-Scott non-blocking queue. Like LinkedQueue it keeps
+ * a head and a tail pointer, but here both are AtomicReferences and the
+ * list always starts with a dummy node, so head and tail never have to be
+ * updated together. An enqueue first links its node after the last node
+ * with a CAS on that node's next pointer, which is the point where the
+ * element counts as added, and then swings the tail. A dequeue swings the
+ * head to the first real node, which then becomes the new dummy.
+ *
+ * The tail may lag one node behind the real end of the list. Any thread
+ * that notices this helps by advancing the tail before going on, so no
+ * thread ever has to wait for a stalled enqueue to finish.
+ *
+ * Nodes are left to the garbage collector rather than recycled. Reusing a
+ * node that another thread may still hold as its head or tail snapshot
+ * would make the CASes open to ABA, and the garbage collector is what
+ * rules that out.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class LockFreeQueue<T> {
+
+    /**
+     * A node of the queue with an atomic next pointer.
+     *
+     * @param <T> the type of data in the node
+     */
+    private static class Node<T> {
+        // Cleared once the node becomes the dummy; readers retry on null.
+        private volatile T data;
+        private final AtomicReference<Node<T>> next = new AtomicReference<>();
+
+        /**
+         * Creates a node holding data.
+         *
+         * @param data the data of the node, null for the initial dummy
+         */
+        Node(T data) {
+            this.data = data;
+        }
+    }
+
+    private final AtomicReference<Node<T>> head;
+    private final AtomicReference<Node<T>> tail;
+
+    /**
+     * Constructs a new, empty LockFreeQueue.
+     */
+    public LockFreeQueue() {
+        Node<T> dummy = new Node<>(null);
+        head = new AtomicReference<>(dummy);
+        tail = new AtomicReference<>(dummy);
+    }
+
+    /**
+     * Adds the given data to the queue.
+     *
+     * Lock-free and O(1) when uncontended.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        Node<T> node = new Node<>(data);
+        while (true) {
+            Node<T> last = tail.get();
+            Node<T> next = last.next.get();
+            if (last != tail.get()) continue;
+            if (next == null) {
+                if (last.next.compareAndSet(null, node)) {
+                    tail.compareAndSet(last, node);
+                    return;
+                }
+            } else {
+                // the tail is lagging, help the other enqueue finish
+                tail.compareAndSet(last, next);
+            }
+        }
+    }
+
+    /**
+     * Removes the data from the front of the queue.
+     *
+     * Lock-free and O(1) when uncontended.
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) throw new NoSuchElementException();
+        return data;
+    }
+
+    /**
+     * Removes the data from the front of the queue, or returns null if it
+     * is empty. Unlike checking isEmpty and then calling dequeue, this
+     * cannot fail because of another thread.
+     *
+     * Lock-free and O(1) when uncontended.
+     *
+     * @return the data from the front of the queue, or null if it is empty
+     */
+    public T poll() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> last = tail.get();
+            Node<T> next = first.next.get();
+            if (first != head.get()) continue;
+            if (next == null) return null;
+            if (first == last) {
+                // never let the head pass the tail
+                tail.compareAndSet(last, next);
+            } else if (head.compareAndSet(first, next)) {
+                T data = next.data;
+                next.data = null;
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it. With
+     * concurrent dequeues, the data may be gone by the time the caller
+     * looks at it.
+     *
+     * @return the next data or null if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            Node<T> first = head.get();
+            Node<T> next = first.next.get();
+            if (next == null) return null;
+            T data = next.data;
+            if (data != null && first == head.get()) return data;
+        }
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the queue is
+     * empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return head.get().next.get() == null;
+    }
+
+    /**
+     * Returns the number of elements in the queue by walking it, so that
+     * enqueue and dequeue do not have to share a counter. Since other
+     * threads may be changing the queue, this is only a snapshot.
+     *
+     * Must be O(n).
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        int count = 0;
+        for (Node<T> node = head.get().next.get(); node != null;
+             node = node.next.get()) {
+            count++;
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,185 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Your implementation of a lock-free linked stack.
+ *
+ * Follows Treiber's stack: the top node is held in an AtomicReference and
+ * push and pop swing it with a single CAS. A node's next pointer is set
+ * before the CAS that publishes the node and is never changed afterwards,
+ * so readers that still hold an old top can safely follow it.
+ *
+ * The stack is ABA-safe because popped nodes are never recycled: a node
+ * can only come back as the top while some thread still holds it if it is
+ * reused, and the garbage collector never reuses a node that is still
+ * reachable. A push does reuse its own node across
+ * retries, since it is not visible to anyone before its CAS succeeds.
+ *
+ * Under contention, a failed CAS sends the thread to an elimination array
+ * instead of straight back to the head. A push parks its node in a random
+ * slot for a short while, and a pop that finds a parked node takes it. The
+ * two cancel out without touching the head at all, which is what keeps the
+ * stack scaling when many threads hammer it.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class LockFreeStack<T> {
+
+    // How many times a parked push spins waiting for a partner.
+    private static final int ELIMINATION_SPINS = 64;
+
+    private final AtomicReference<LinkedNode<T>> head =
+        new AtomicReference<>();
+    private final AtomicReferenceArray<LinkedNode<T>> slots;
+
+    /**
+     * Constructs a new LockFreeStack with an elimination array sized to the
+     * number of available processors.
+     */
+    public LockFreeStack() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new LockFreeStack with the given number of elimination
+     * slots.
+     *
+     * @param eliminationSlots the size of the elimination array
+     * @throws IllegalArgumentException if eliminationSlots is less than 1
+     */
+    public LockFreeStack(int eliminationSlots) {
+        if (eliminationSlots < 1) throw new IllegalArgumentException();
+        slots = new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    /**
+     * Adds the given data onto the stack. The given element becomes the
+     * top-most element of the stack.
+     *
+     * Lock-free and O(1) when uncontended.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        LinkedNode<T> node = new LinkedNode<>(data);
+        while (true) {
+            LinkedNode<T> top = head.get();
+            node.setNext(top);
+            if (head.compareAndSet(top, node)) return;
+            if (eliminate(node)) return;
+        }
+    }
+
+    /**
+     * Parks the node in a random elimination slot and waits briefly for a
+     * pop to take it.
+     *
+     * @param node the node being pushed
+     * @return true if a pop took the node; false if the push has to retry
+     */
+    private boolean eliminate(LinkedNode<T> node) {
+        int index = ThreadLocalRandom.current().nextInt(slots.length());
+        if (!slots.compareAndSet(index, null, node)) return false;
+
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (slots.get(index) != node) return true;
+            Thread.onSpinWait();
+        }
+        // withdraw the offer; if that fails, a pop took it just now
+        return !slots.compareAndSet(index, node, null);
+    }
+
+    /**
+     * Removes and returns the top-most element on the stack.
+     *
+     * Lock-free and O(1) when uncontended.
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T pop() {
+        T data = tryPop();
+        if (data == null) throw new NoSuchElementException();
+        return data;
+    }
+
+    /**
+     * Removes and returns the top-most element on the stack, or returns
+     * null if it is empty. Unlike checking isEmpty and then calling pop,
+     * this cannot fail because of another thread.
+     *
+     * Lock-free and O(1) when uncontended.
+     *
+     * @return the data from the top of the stack, or null if it is empty
+     */
+    public T tryPop() {
+        while (true) {
+            LinkedNode<T> top = head.get();
+            if (top == null) return null;
+            if (head.compareAndSet(top, top.getNext())) return top.getData();
+
+            int index = ThreadLocalRandom.current().nextInt(slots.length());
+            LinkedNode<T> parked = slots.get(index);
+            if (parked != null && slots.compareAndSet(index, parked, null)) {
+                return parked.getData();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the next element to be popped without removing it. With
+     * concurrent pops, the element may be gone by the time the caller
+     * looks at it.
+     *
+     * @return the next data or null if the stack is empty
+     */
+    public T peek() {
+        LinkedNode<T> top = head.get();
+        return top == null ? null : top.getData();
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the stack is
+     * empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    /**
+     * Returns the number of elements in the stack by walking it, so that
+     * push and pop do not have to share a counter. Since other threads may
+     * be changing the stack, this is only a snapshot.
+     *
+     * Must be O(n).
+     *
+     * @return number of items in the stack
+     */
+    public int size() {
+        int count = 0;
+        for (LinkedNode<T> node = head.get(); node != null;
+             node = node.getNext()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the head node of the stack.
+     *
+     * @return the head node
+     */
+    public LinkedNode<T> getHead() {
+        return head.get();
+    }
+
+}
@@ -0,0 +1,180 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Your implementation of an array-backed stack specialized for long
+ * values.
+ *
+ * Mirrors the API of ArrayStack, but stores the elements directly in a
+ * long[] so no element is ever boxed. Since there is no null to return,
+ * peek throws on an empty stack instead.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class LongArrayStack {
+
+    private long[] backingArray;
+    private int size;
+
+    /**
+     * The initial capacity of a stack with fixed-size backing storage.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /**
+     * Constructs a new LongArrayStack.
+     */
+    public LongArrayStack() {
+        backingArray = new long[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Adds the given data onto the stack. The given element becomes the
+     * top-most element of the stack.
+     *
+     * This method should be implemented in amortized O(1) time.
+     *
+     * @param data the data to add
+     */
+    public void push(long data) {
+        if (size == backingArray.length) {
+            resizeArray(size * 2);
+        }
+
+        backingArray[size++] = data;
+    }
+
+    /**
+     * Pushes all the given values in order, so the last one ends up on
+     * top. The backing array grows at most once.
+     *
+     * Must be O(length) amortized.
+     *
+     * @param values the array holding the values to push
+     * @param offset the index of the first value to push
+     * @param length the number of values to push
+     * @throws IllegalArgumentException if values is null
+     * @throws IndexOutOfBoundsException if offset or length is negative or
+     * offset + length > values.length
+     */
+    public void pushAll(long[] values, int offset, int length) {
+        if (values == null) throw new IllegalArgumentException();
+        if (offset < 0 || length < 0 || offset > values.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (size + length > backingArray.length) {
+            resizeArray(Math.max(backingArray.length * 2, size + length));
+        }
+        System.arraycopy(values, offset, backingArray, size, length);
+        size += length;
+    }
+
+    /**
+     * Pushes all the given values in order, so the last one ends up on
+     * top.
+     *
+     * Must be O(values.length) amortized.
+     *
+     * @param values the values to push
+     * @throws IllegalArgumentException if values is null
+     */
+    public void pushAll(long[] values) {
+        if (values == null) throw new IllegalArgumentException();
+        pushAll(values, 0, values.length);
+    }
+
+    /**
+     * Resizes array to the given capacity.
+     *
+     * @param capacity the new capacity of the array.
+     */
+    private void resizeArray(int capacity) {
+        long[] newArray = new long[capacity];
+        System.arraycopy(backingArray, 0, newArray, 0, size);
+        backingArray = newArray;
+    }
+
+    /**
+     * Removes and returns the top-most element on the stack.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public long pop() {
+        if (isEmpty()) throw new NoSuchElementException();
+        long tmp = backingArray[--size];
+        backingArray[size] = 0;
+        return tmp;
+    }
+
+    /**
+     * Pops elements into the target array until it is full or the stack is
+     * empty. The top-most element goes to index 0.
+     *
+     * Must be O(number of elements popped).
+     *
+     * @param target the array to pop into
+     * @return the number of elements popped
+     * @throws IllegalArgumentException if target is null
+     */
+    public int drain(long[] target) {
+        if (target == null) throw new IllegalArgumentException();
+
+        int count = Math.min(size, target.length);
+        for (int i = 0; i < count; i++) {
+            target[i] = backingArray[size - 1 - i];
+            backingArray[size - 1 - i] = 0;
+        }
+        size -= count;
+        return count;
+    }
+
+    /**
+     * Retrieves the next element to be popped without removing it.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the next data
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public long peek() {
+        if (isEmpty()) throw new NoSuchElementException();
+        return backingArray[size - 1];
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the stack is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the stack.
+     *
+     * @return number of items in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array of the stack.
+     *
+     * @return the backing array
+     */
+    public long[] getBackingArray() {
+        return backingArray;
+    }
+
+}
@@ -0,0 +1,288 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Your implementation of a bounded, lock-free, multi-producer
+ * multi-consumer array queue.
+ *
+ * Follows Dmitry Vyukov's bounded MPMC queue. The backing array is a ring
+ * whose length is a power of two, so a position maps to its slot with a
+ * mask instead of a modulo. Every slot has a sequence number telling
+ * whether it is ready to be written for a given lap or ready to be read.
+ * Producers and consumers claim positions by CASing the tail and head
+ * counters and then only touch their own slot. Each counter is padded onto
+ * its own cache line so producers and consumers do not falsely share it.
+ *
+ * Unlike ArrayQueue, the capacity is fixed and offer returns false instead
+ * of resizing when the queue is full.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class MpmcArrayQueue<T> {
+
+    /**
+     * Padding placed before a counter.
+     */
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /**
+     * The counter value itself.
+     */
+    private static class Value extends LeftPadding {
+        static final AtomicLongFieldUpdater<Value> UPDATER =
+            AtomicLongFieldUpdater.newUpdater(Value.class, "value");
+        volatile long value;
+    }
+
+    /**
+     * A long counter padded on both sides so that it fills a cache line on
+     * its own.
+     */
+    private static class PaddedCounter extends Value {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        /**
+         * Returns the current value.
+         *
+         * @return the value
+         */
+        long get() {
+            return value;
+        }
+
+        /**
+         * Sets the value to update if it is currently expect.
+         *
+         * @param expect the expected value
+         * @param update the new value
+         * @return true if the value was updated; false otherwise
+         */
+        boolean compareAndSet(long expect, long update) {
+            return UPDATER.compareAndSet(this, expect, update);
+        }
+    }
+
+    // Published in place of a null from fill's supplier, skipped by poll.
+    private static final Object SKIPPED = new Object();
+
+    private final T[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final PaddedCounter head = new PaddedCounter();
+    private final PaddedCounter tail = new PaddedCounter();
+
+    /**
+     * Constructs a new MpmcArrayQueue holding at least the given number of
+     * elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the minimum capacity of the queue
+     * @throws IllegalArgumentException if capacity is less than 1 or
+     * greater than 2^30
+     */
+    public MpmcArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException();
+        }
+
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = (T[]) new Object[length];
+        sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+        mask = length - 1;
+    }
+
+    /**
+     * Adds the given data to the back of the queue if there is room.
+     *
+     * Lock-free and O(1).
+     *
+     * @param data the data to add
+     * @return true if the data was added; false if the queue is full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        while (true) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer[index] = data;
+                    sequences.setRelease(index, pos + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the data at the front of the queue.
+     *
+     * Lock-free and O(1).
+     *
+     * @return the data from the front of the queue, or null if it is empty
+     */
+    public T poll() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            long diff = sequences.getAcquire(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    T data = buffer[index];
+                    buffer[index] = null;
+                    sequences.setRelease(index, pos + mask + 1);
+                    if (data != SKIPPED) return data;
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the data at the front of the queue without removing it.
+     * With concurrent consumers, the data may be gone by the time the
+     * caller looks at it.
+     *
+     * @return the data at the front, or null if the queue is empty
+     */
+    public T peek() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            long diff = sequences.getAcquire(index) - (pos + 1);
+            if (diff < 0) return null;
+            T data = buffer[index];
+            if (diff == 0 && data != SKIPPED && data != null
+                && head.get() == pos) {
+                return data;
+            }
+            if (data == SKIPPED && head.compareAndSet(pos, pos + 1)) {
+                // consume the empty entry so the real front becomes visible
+                buffer[index] = null;
+                sequences.setRelease(index, pos + mask + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes up to limit elements from the front of the queue and passes
+     * them to the consumer, stopping early if the queue becomes empty.
+     *
+     * This is only a convenience loop over poll: every element is claimed
+     * with its own CAS on the head, so draining costs the same as polling
+     * the elements one by one. Claiming one element at a time means an
+     * element is only removed right before it is handed to the consumer,
+     * so if the consumer throws, every element after the one it threw on
+     * is still in the queue.
+     *
+     * @param consumer the consumer of the removed elements
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws IllegalArgumentException if consumer is null or limit is
+     * negative
+     */
+    public int drainTo(Consumer<? super T> consumer, int limit) {
+        if (consumer == null || limit < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int count = 0;
+        while (count < limit) {
+            T data = poll();
+            if (data == null) break;
+            consumer.accept(data);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Adds up to limit elements from the supplier to the back of the queue,
+     * stopping early if the queue becomes full.
+     *
+     * The supplier is only asked for an element once a slot has been
+     * claimed for it, so no supplied element is ever dropped. If it returns
+     * null anyway, the claimed slot is released as an empty entry that
+     * consumers skip, and filling stops. The same happens if the supplier
+     * throws, so the slot is always published and consumers never wait on
+     * it.
+     *
+     * @param supplier the supplier of the elements to add
+     * @param limit the maximum number of elements to add
+     * @return the number of elements added
+     * @throws IllegalArgumentException if supplier is null or limit is
+     * negative
+     */
+    public int fill(Supplier<? extends T> supplier, int limit) {
+        if (supplier == null || limit < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int count = 0;
+        while (count < limit) {
+            long pos = tail.get();
+            int index = (int) pos & mask;
+            long diff = sequences.getAcquire(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    T data = null;
+                    try {
+                        data = supplier.get();
+                    } finally {
+                        buffer[index] = data == null ? (T) SKIPPED : data;
+                        sequences.setRelease(index, pos + 1);
+                    }
+                    if (data == null) break;
+                    count++;
+                }
+            } else if (diff < 0) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements in the queue. Since other threads may
+     * be changing the queue, this is only a snapshot.
+     *
+     * The count is taken from the head and tail positions, so it includes
+     * any empty entries left by fill that consumers have not yet skipped.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        while (true) {
+            long before = head.get();
+            long current = tail.get();
+            if (head.get() == before) {
+                return (int) Math.max(0, Math.min(current - before,
+                        buffer.length));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+}
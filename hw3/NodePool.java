@@ -0,0 +1,143 @@
+/**
+ * A bounded free list of recyclable nodes, owned by a single pooled stack
+ * or queue.
+ *
+ * LinkedNode cannot change its data once built, so the pooled structures
+ * link their own Node type, whose data can be replaced. A released node is
+ * cleared and kept on the free list until the pool is full, and acquire
+ * hands it out again before allocating a new one.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class NodePool<T> {
+
+    /**
+     * A singly linked node whose data can be replaced, so it can be reused.
+     *
+     * @param <T> the type of data in the node
+     */
+    public static class Node<T> {
+        private T data;
+        private Node<T> next;
+
+        /**
+         * Gets the data.
+         *
+         * @return the data
+         */
+        public T getData() {
+            return data;
+        }
+
+        /**
+         * Gets the next node.
+         *
+         * @return the next node
+         */
+        public Node<T> getNext() {
+            return next;
+        }
+
+        /**
+         * Sets the next node.
+         *
+         * @param next the new next node
+         */
+        public void setNext(Node<T> next) {
+            this.next = next;
+        }
+    }
+
+    private final int capacity;
+    private Node<T> free;
+    private int size;
+    private long allocations;
+    private long reuses;
+
+    /**
+     * Creates an empty pool keeping at most capacity free nodes.
+     *
+     * @param capacity the maximum number of free nodes to keep
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public NodePool(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException();
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a node holding the given data and next node, reusing a free
+     * node if there is one.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to store in the node
+     * @param next the next node
+     * @return a node holding data and next
+     */
+    public Node<T> acquire(T data, Node<T> next) {
+        Node<T> node = free;
+        if (node == null) {
+            allocations++;
+            node = new Node<>();
+        } else {
+            free = node.next;
+            size--;
+            reuses++;
+        }
+        node.data = data;
+        node.next = next;
+        return node;
+    }
+
+    /**
+     * Takes back a node that nothing links to any more. The node is
+     * cleared so it does not keep its data reachable, and is left to the
+     * garbage collector if the pool is full.
+     *
+     * Must be O(1).
+     *
+     * @param node the node to recycle
+     */
+    public void release(Node<T> node) {
+        node.data = null;
+        if (size == capacity) {
+            node.next = null;
+            return;
+        }
+        node.next = free;
+        free = node;
+        size++;
+    }
+
+    /**
+     * Returns the number of free nodes currently in the pool.
+     *
+     * @return the number of free nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns how many nodes the pool had to allocate because it was empty.
+     *
+     * @return the number of allocations
+     */
+    public long getAllocations() {
+        return allocations;
+    }
+
+    /**
+     * Returns how many nodes the pool handed out again instead of
+     * allocating.
+     *
+     * @return the number of reuses
+     */
+    public long getReuses() {
+        return reuses;
+    }
+
+}
@@ -0,0 +1,127 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Your implementation of a linked queue that recycles its nodes.
+ *
+ * Follows the LinkedQueue contract, but each instance owns a bounded
+ * NodePool. A dequeued node goes back to the pool and the next enqueue
+ * reuses it, so a queue whose depth stays within the pool capacity
+ * allocates nothing in steady state. Pooling is opt-in: only queues
+ * created as PooledLinkedQueue recycle nodes.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class PooledLinkedQueue<T> {
+
+    /**
+     * The number of free nodes a queue keeps by default.
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 16;
+
+    private final NodePool<T> pool;
+    private NodePool.Node<T> head;
+    private NodePool.Node<T> tail;
+    private int size;
+
+    /**
+     * Constructs an empty queue keeping up to DEFAULT_POOL_CAPACITY free
+     * nodes.
+     */
+    public PooledLinkedQueue() {
+        this(DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty queue keeping up to poolCapacity free nodes.
+     *
+     * @param poolCapacity the maximum number of free nodes to keep
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public PooledLinkedQueue(int poolCapacity) {
+        pool = new NodePool<>(poolCapacity);
+    }
+
+    /**
+     * Adds the given data to the queue.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        NodePool.Node<T> node = pool.acquire(data, null);
+        if (isEmpty()) {
+            head = node;
+        } else {
+            tail.setNext(node);
+        }
+        tail = node;
+        size++;
+    }
+
+    /**
+     * Removes the data from the front of the queue.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        if (isEmpty()) throw new NoSuchElementException();
+        NodePool.Node<T> old = head;
+        T tmp = old.getData();
+        head = old.getNext();
+        if (--size == 0) tail = null;
+        // only recycle once neither head nor tail points to the node
+        pool.release(old);
+        return tmp;
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the next data or null if the queue is empty
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+        return head.getData();
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the queue is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the size of the queue.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the pool the queue recycles its nodes through.
+     *
+     * @return the queue's node pool
+     */
+    public NodePool<T> getPool() {
+        return pool;
+    }
+
+}
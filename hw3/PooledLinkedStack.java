@@ -0,0 +1,120 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Your implementation of a linked stack that recycles its nodes.
+ *
+ * Follows the LinkedStack contract, but each instance owns a bounded
+ * NodePool. A popped node goes back to the pool and the next push reuses
+ * it, so a stack whose depth stays within the pool capacity allocates
+ * nothing in steady state. Pooling is opt-in: only stacks created as
+ * PooledLinkedStack recycle nodes.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class PooledLinkedStack<T> {
+
+    /**
+     * The number of free nodes a stack keeps by default.
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 16;
+
+    private final NodePool<T> pool;
+    private NodePool.Node<T> head;
+    private int size;
+
+    /**
+     * Constructs an empty stack keeping up to DEFAULT_POOL_CAPACITY free
+     * nodes.
+     */
+    public PooledLinkedStack() {
+        this(DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty stack keeping up to poolCapacity free nodes.
+     *
+     * @param poolCapacity the maximum number of free nodes to keep
+     * @throws IllegalArgumentException if poolCapacity is negative
+     */
+    public PooledLinkedStack(int poolCapacity) {
+        pool = new NodePool<>(poolCapacity);
+    }
+
+    /**
+     * Adds the given data onto the stack. The given element becomes the
+     * top-most element of the stack.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        head = pool.acquire(data, head);
+        size++;
+    }
+
+    /**
+     * Removes and returns the top-most element on the stack.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the data from the top of the stack
+     * @throws java.util.NoSuchElementException if the stack is empty
+     */
+    public T pop() {
+        if (isEmpty()) throw new NoSuchElementException();
+        NodePool.Node<T> old = head;
+        T tmp = old.getData();
+        head = old.getNext();
+        size--;
+        pool.release(old);
+        return tmp;
+    }
+
+    /**
+     * Retrieves the next element to be popped without removing it.
+     *
+     * This method should be implemented in O(1) time.
+     *
+     * @return the next data or null if the stack is empty
+     */
+    public T peek() {
+        if (isEmpty()) return null;
+        return head.getData();
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the stack is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return the size of the stack.
+     *
+     * @return number of items in the stack
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the pool the stack recycles its nodes through.
+     *
+     * @return the stack's node pool
+     */
+    public NodePool<T> getPool() {
+        return pool;
+    }
+
+}
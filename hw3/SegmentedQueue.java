@@ -0,0 +1,153 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Your implementation of a segmented queue: a linked list of fixed-size
+ * array chunks.
+ *
+ * Elements are written into the tail chunk until it is full, and then a
+ * new chunk is linked after it, so the queue grows without ever copying
+ * an element like ArrayQueue does on resize. Elements are read from the
+ * head chunk, and once it has been read to the end it is unlinked and
+ * left to the garbage collector, so memory is given back as the queue
+ * drains. Allocation happens once per chunk instead of once per element
+ * like in LinkedQueue.
+ *
+ * One drained chunk is kept as a spare, so a queue that keeps crossing a
+ * chunk boundary does not allocate a new chunk each time.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class SegmentedQueue<T> {
+
+    /**
+     * The number of elements held by each chunk.
+     */
+    public static final int CHUNK_SIZE = 256;
+
+    /**
+     * A fixed-size array of elements linked to the next chunk.
+     *
+     * @param <T> the type of data in the chunk
+     */
+    private static class Chunk<T> {
+        private final T[] elements = (T[]) new Object[CHUNK_SIZE];
+        private Chunk<T> next;
+    }
+
+    private Chunk<T> head;
+    private Chunk<T> tail;
+    private Chunk<T> spare;
+    // Index of the front element in head and of the next free slot in tail.
+    private int front;
+    private int back;
+    private int size;
+    private int chunks;
+
+    /**
+     * Constructs a new SegmentedQueue holding one empty chunk.
+     */
+    public SegmentedQueue() {
+        head = new Chunk<>();
+        tail = head;
+        chunks = 1;
+    }
+
+    /**
+     * Adds the given data to the queue.
+     *
+     * Must be O(1); only every CHUNK_SIZE-th call links a new chunk, and
+     * nothing is ever copied.
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+        if (data == null) throw new IllegalArgumentException();
+        if (back == CHUNK_SIZE) {
+            Chunk<T> chunk = spare == null ? new Chunk<>() : spare;
+            spare = null;
+            tail.next = chunk;
+            tail = chunk;
+            back = 0;
+            chunks++;
+        }
+        tail.elements[back++] = data;
+        size++;
+    }
+
+    /**
+     * Removes the data from the front of the queue. A head chunk that has
+     * been read to the end is unlinked.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        if (size == 0) throw new NoSuchElementException();
+        T data = head.elements[front];
+        head.elements[front++] = null;
+        size--;
+
+        if (size == 0) {
+            // reuse the only remaining chunk from its start
+            front = 0;
+            back = 0;
+        } else if (front == CHUNK_SIZE) {
+            Chunk<T> drained = head;
+            head = head.next;
+            drained.next = null;
+            spare = drained;
+            front = 0;
+            chunks--;
+        }
+        return data;
+    }
+
+    /**
+     * Retrieves the next data to be dequeued without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the next data or null if the queue is empty
+     */
+    public T peek() {
+        if (size == 0) return null;
+        return head.elements[front];
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the queue is
+     * empty.
+     *
+     * Must be O(1).
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of chunks currently linked into the queue, not
+     * counting the spare.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return chunks;
+    }
+
+}
@@ -0,0 +1,284 @@
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Your implementation of a bounded, wait-free, single-producer
+ * single-consumer array queue.
+ *
+ * Exactly one thread may add to the queue and exactly one other thread may
+ * remove from it. Since each index then has a single writer, no CAS is
+ * needed: an element is written into its slot with a plain store and then
+ * published by advancing the producer index with a release store (lazySet),
+ * and the consumer reads the producer index with an acquire load before it
+ * reads the slot. The same goes the other way for freeing slots.
+ *
+ * Each side also keeps a cached copy of the other side's index and only
+ * rereads the real one when the cache says the queue looks full or empty,
+ * so in steady state the two threads hardly ever touch each other's cache
+ * lines. drainTo and fill move whole batches and publish the index once per
+ * batch.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class SpscArrayQueue<T> {
+
+    /**
+     * Padding placed before an index.
+     */
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /**
+     * An index together with its owner's cached copy of the other index.
+     */
+    private static class Value extends LeftPadding {
+        static final AtomicLongFieldUpdater<Value> UPDATER =
+            AtomicLongFieldUpdater.newUpdater(Value.class, "value");
+        volatile long value;
+        long cached;
+    }
+
+    /**
+     * An index padded on both sides so that it fills a cache line on its
+     * own. Only the owning side writes to it.
+     */
+    private static class PaddedIndex extends Value {
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        /**
+         * Returns the current value with acquire ordering.
+         *
+         * @return the value
+         */
+        long get() {
+            return value;
+        }
+
+        /**
+         * Sets the value with release ordering, publishing every write made
+         * before it.
+         *
+         * @param update the new value
+         */
+        void lazySet(long update) {
+            UPDATER.lazySet(this, update);
+        }
+    }
+
+    private final T[] buffer;
+    private final int mask;
+    private final PaddedIndex producer = new PaddedIndex();
+    private final PaddedIndex consumer = new PaddedIndex();
+
+    /**
+     * Constructs a new SpscArrayQueue holding at least the given number of
+     * elements. The capacity is rounded up to a power of two.
+     *
+     * @param capacity the minimum capacity of the queue
+     * @throws IllegalArgumentException if capacity is less than 1 or
+     * greater than 2^30
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException();
+        }
+
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = (T[]) new Object[length];
+        mask = length - 1;
+    }
+
+    /**
+     * Adds the given data to the back of the queue if there is room. Must
+     * only be called by the producer thread.
+     *
+     * Wait-free and O(1).
+     *
+     * @param data the data to add
+     * @return true if the data was added; false if the queue is full
+     * @throws IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        long pos = producer.get();
+        if (free(pos, 1) == 0) return false;
+        buffer[(int) pos & mask] = data;
+        producer.lazySet(pos + 1);
+        return true;
+    }
+
+    /**
+     * Returns how many slots the producer can fill starting at pos,
+     * rereading the consumer index only if the cached one shows fewer than
+     * wanted.
+     *
+     * @param pos the current producer index
+     * @param wanted the number of slots the caller would like
+     * @return the number of free slots
+     */
+    private int free(long pos, int wanted) {
+        int free = (int) (buffer.length - (pos - producer.cached));
+        if (free < wanted) {
+            producer.cached = consumer.get();
+            free = (int) (buffer.length - (pos - producer.cached));
+        }
+        return free;
+    }
+
+    /**
+     * Removes and returns the data at the front of the queue. Must only be
+     * called by the consumer thread.
+     *
+     * Wait-free and O(1).
+     *
+     * @return the data from the front of the queue, or null if it is empty
+     */
+    public T poll() {
+        long pos = consumer.get();
+        if (available(pos, 1) == 0) return null;
+        int index = (int) pos & mask;
+        T data = buffer[index];
+        buffer[index] = null;
+        consumer.lazySet(pos + 1);
+        return data;
+    }
+
+    /**
+     * Retrieves the data at the front of the queue without removing it.
+     * Must only be called by the consumer thread.
+     *
+     * @return the data at the front, or null if the queue is empty
+     */
+    public T peek() {
+        long pos = consumer.get();
+        if (available(pos, 1) == 0) return null;
+        return buffer[(int) pos & mask];
+    }
+
+    /**
+     * Returns how many elements the consumer can take starting at pos,
+     * rereading the producer index only if the cached one shows fewer than
+     * wanted.
+     *
+     * @param pos the current consumer index
+     * @param wanted the number of elements the caller would like
+     * @return the number of available elements
+     */
+    private int available(long pos, int wanted) {
+        int available = (int) (consumer.cached - pos);
+        if (available < wanted) {
+            consumer.cached = producer.get();
+            available = (int) (consumer.cached - pos);
+        }
+        return available;
+    }
+
+    /**
+     * Removes up to limit elements from the front of the queue and passes
+     * them to the sink, stopping early if the queue becomes empty. The
+     * freed slots are handed back to the producer once, at the end, or
+     * as far as they got if the sink throws. Must only be called by the
+     * consumer thread.
+     *
+     * @param sink the consumer of the removed elements
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     * @throws IllegalArgumentException if sink is null or limit is
+     * negative
+     */
+    public int drainTo(Consumer<? super T> sink, int limit) {
+        if (sink == null || limit < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        long pos = consumer.get();
+        int count = Math.min(limit, available(pos, limit));
+        int taken = 0;
+        try {
+            while (taken < count) {
+                int index = (int) (pos + taken) & mask;
+                T data = buffer[index];
+                buffer[index] = null;
+                taken++;
+                sink.accept(data);
+            }
+        } finally {
+            consumer.lazySet(pos + taken);
+        }
+        return count;
+    }
+
+    /**
+     * Adds up to limit elements from the supplier to the back of the queue,
+     * stopping early if the queue becomes full or the supplier returns
+     * null. The new elements are published to the consumer once, at the
+     * end, or as far as they got if the supplier throws. Must only be
+     * called by the producer thread.
+     *
+     * @param supplier the supplier of the elements to add
+     * @param limit the maximum number of elements to add
+     * @return the number of elements added
+     * @throws IllegalArgumentException if supplier is null or limit is
+     * negative
+     */
+    public int fill(Supplier<? extends T> supplier, int limit) {
+        if (supplier == null || limit < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        long pos = producer.get();
+        int room = Math.min(limit, free(pos, limit));
+        int count = 0;
+        try {
+            while (count < room) {
+                T data = supplier.get();
+                if (data == null) break;
+                buffer[(int) (pos + count) & mask] = data;
+                count++;
+            }
+        } finally {
+            producer.lazySet(pos + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements in the queue. Since the other thread
+     * may be changing the queue, this is only a snapshot.
+     *
+     * @return number of items in the queue
+     */
+    public int size() {
+        while (true) {
+            long before = consumer.get();
+            long current = producer.get();
+            if (consumer.get() == before) {
+                return (int) (current - before);
+            }
+        }
+    }
+
+    /**
+     * Returns a boolean value indicating if the queue is empty.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return consumer.get() == producer.get();
+    }
+
+    /**
+     * Returns the number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+}
@@ -1,9 +1,32 @@
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Basic tests for the stack and queue classes.
@@ -311,4 +334,921 @@ public class StacksQueuesStudentTests {
         assertEquals((Integer) 34, linkedQueue.peek());
         assertEquals(4, linkedQueue.size());
     }
+
+    @Test(timeout = TIMEOUT)
+    public void testMpmcArrayQueue() {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(5);
+        assertEquals(8, queue.capacity());
+
+        for (int i = 0; i < 8; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(8));
+        assertEquals(8, queue.size());
+        assertEquals((Integer) 0, queue.peek());
+        assertEquals((Integer) 0, queue.poll());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained::add, 3));
+        assertEquals(Arrays.asList(1, 2, 3), drained);
+
+        int[] next = {100};
+        assertEquals(4, queue.fill(() -> next[0]++, 10));
+        assertEquals(8, queue.size());
+        assertEquals(8, queue.drainTo(x -> { }, 100));
+        assertEquals(null, queue.poll());
+        assertEquals(null, queue.peek());
+
+        try {
+            queue.fill(() -> {
+                throw new IllegalStateException();
+            }, 1);
+            fail();
+        } catch (IllegalStateException e) {
+            // the claimed slot is published empty
+        }
+        assertTrue(queue.offer(7));
+        assertEquals((Integer) 7, queue.poll());
+        assertEquals(null, queue.poll());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(i));
+        }
+        drained.clear();
+        try {
+            queue.drainTo(x -> {
+                if (x == 1) throw new IllegalStateException();
+                drained.add(x);
+            }, 10);
+            fail();
+        } catch (IllegalStateException e) {
+            // 0 and 1 were taken before the consumer threw
+        }
+        assertEquals(Arrays.asList(0), drained);
+        assertEquals((Integer) 2, queue.poll());
+        assertEquals(null, queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testMpmcArrayQueueConcurrent() throws InterruptedException {
+        MpmcArrayQueue<Integer> queue = new MpmcArrayQueue<>(64);
+        int producers = 3;
+        int consumers = 3;
+        int perProducer = 20000;
+        AtomicLong sum = new AtomicLong();
+        AtomicInteger received = new AtomicInteger();
+
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                while (received.get() < producers * perProducer) {
+                    Integer data = queue.poll();
+                    if (data != null) {
+                        sum.addAndGet(data);
+                        received.incrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received.get());
+        assertEquals((long) producers * perProducer * (perProducer + 1) / 2,
+                sum.get());
+        assertEquals(0, queue.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSpscArrayQueue() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+        assertEquals(4, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertEquals(null, queue.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertEquals(4, queue.size());
+        assertEquals((Integer) 0, queue.peek());
+        assertEquals((Integer) 0, queue.poll());
+        assertTrue(queue.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained::add, 2));
+        assertEquals(Arrays.asList(1, 2), drained);
+
+        int[] next = {10};
+        assertEquals(2, queue.fill(() -> next[0]++, 10));
+        assertEquals(0, queue.fill(() -> next[0]++, 10));
+
+        drained.clear();
+        assertEquals(4, queue.drainTo(drained::add, 10));
+        assertEquals(Arrays.asList(3, 4, 10, 11), drained);
+        assertEquals(0, queue.fill(() -> null, 10));
+        assertTrue(queue.isEmpty());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(i));
+        }
+        drained.clear();
+        try {
+            queue.drainTo(x -> {
+                if (x == 1) throw new IllegalStateException();
+                drained.add(x);
+            }, 10);
+            fail();
+        } catch (IllegalStateException e) {
+            // 0 and 1 were taken before the sink threw
+        }
+        assertEquals(Arrays.asList(0), drained);
+        assertEquals(1, queue.size());
+        assertEquals((Integer) 2, queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testSpscArrayQueueConcurrent() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(64);
+        int total = 100000;
+        int[] next = {0};
+
+        Thread producer = new Thread(() -> {
+            while (next[0] < total) {
+                if (queue.fill(() -> next[0] < total ? next[0]++ : null,
+                        16) == 0) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < total) {
+            Integer data = queue.poll();
+            if (data == null) {
+                Thread.yield();
+            } else {
+                assertEquals((Integer) expected++, data);
+            }
+        }
+        producer.join();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLockFreeStack() {
+        LockFreeStack<String> stack = new LockFreeStack<>();
+        assertTrue(stack.isEmpty());
+        assertEquals(null, stack.tryPop());
+        assertEquals(null, stack.peek());
+
+        stack.push("0a");
+        stack.push("1a");
+        stack.push("2a");
+        assertEquals(3, stack.size());
+        assertEquals("2a", stack.getHead().getData());
+        assertEquals("2a", stack.peek());
+
+        assertEquals("2a", stack.pop());
+        assertEquals("1a", stack.tryPop());
+        assertEquals("0a", stack.pop());
+        assertTrue(stack.isEmpty());
+        assertEquals(null, stack.getHead());
+
+        try {
+            stack.pop();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertEquals(0, stack.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testLockFreeStackConcurrent() throws InterruptedException {
+        LockFreeStack<Integer> stack = new LockFreeStack<>(1);
+        int threads = 4;
+        int perThread = 20000;
+        AtomicLong sum = new AtomicLong();
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    stack.push(i);
+                    if (i % 2 == 0) {
+                        sum.addAndGet(stack.pop() + stack.pop());
+                    }
+                }
+            });
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(stack.isEmpty());
+        assertEquals((long) threads * perThread * (perThread + 1) / 2,
+                sum.get());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testLockFreeQueue() {
+        LockFreeQueue<String> queue = new LockFreeQueue<>();
+        assertTrue(queue.isEmpty());
+        assertEquals(null, queue.poll());
+        assertEquals(null, queue.peek());
+
+        queue.enqueue("0a");
+        queue.enqueue("1a");
+        queue.enqueue("2a");
+        assertEquals(3, queue.size());
+        assertEquals("0a", queue.peek());
+
+        assertEquals("0a", queue.dequeue());
+        assertEquals("1a", queue.poll());
+        queue.enqueue("3a");
+        assertEquals("2a", queue.dequeue());
+        assertEquals("3a", queue.dequeue());
+        assertTrue(queue.isEmpty());
+
+        try {
+            queue.dequeue();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testLockFreeQueueConcurrent() throws InterruptedException {
+        LockFreeQueue<Integer> queue = new LockFreeQueue<>();
+        int producers = 3;
+        int consumers = 3;
+        int perProducer = 20000;
+        AtomicIntegerArray seen = new AtomicIntegerArray(
+                producers * perProducer);
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.enqueue(base + i);
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                // every consumer must see each producer's values in order
+                int[] last = new int[producers];
+                Arrays.fill(last, -1);
+                while (received.get() < producers * perProducer) {
+                    Integer data = queue.poll();
+                    if (data == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    int p = data / perProducer;
+                    if (data <= last[p]) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    last[p] = data;
+                    seen.incrementAndGet(data);
+                    received.incrementAndGet();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, outOfOrder.get());
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testBoundedBlockingQueue() throws InterruptedException {
+        BoundedBlockingQueue<String> queue = new BoundedBlockingQueue<>(3);
+        assertEquals(null, queue.poll());
+        assertEquals(null, queue.poll(5, TimeUnit.MILLISECONDS));
+        assertTrue(queue.getConsumerBlockedTime(TimeUnit.MILLISECONDS) >= 5);
+
+        queue.put("0a");
+        assertTrue(queue.offer("1a"));
+        assertTrue(queue.offer("2a", 1, TimeUnit.SECONDS));
+        assertFalse(queue.offer("3a"));
+        assertFalse(queue.offer("3a", 5, TimeUnit.MILLISECONDS));
+        assertTrue(queue.getProducerBlockedTime(TimeUnit.MILLISECONDS) >= 5);
+        assertEquals(0, queue.remainingCapacity());
+
+        assertEquals("0a", queue.take());
+        assertTrue(queue.offer("3a"));
+        assertEquals("1a", queue.peek());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(Arrays.asList("1a", "2a"), drained);
+        assertEquals("3a", queue.poll(1, TimeUnit.SECONDS));
+        assertEquals(0, queue.size());
+        assertEquals(3, queue.getMaxSize());
+
+        Object[] expected = new Object[3];
+        assertArrayEquals(expected, queue.getBackingArray());
+
+        queue.put("4a");
+        queue.put("5a");
+        queue.put("6a");
+        ArrayBlockingQueue<String> full = new ArrayBlockingQueue<>(2);
+        try {
+            queue.drainTo(full, 3);
+            fail();
+        } catch (IllegalStateException e) {
+            // full took two elements before rejecting the third
+        }
+        assertEquals(Arrays.asList("4a", "5a"), new ArrayList<>(full));
+        assertEquals(1, queue.size());
+        assertEquals("6a", queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testBoundedBlockingQueueConcurrent()
+        throws InterruptedException {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(4);
+        int producers = 3;
+        int perProducer = 5000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 1; i <= perProducer; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[p].start();
+        }
+
+        long sum = 0;
+        for (int i = 0; i < producers * perProducer; i++) {
+            sum += queue.take();
+            assertTrue(queue.size() <= 4);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals((long) producers * perProducer * (perProducer + 1) / 2,
+                sum);
+        assertTrue(queue.getMaxSize() <= 4);
+        assertEquals(null, queue.poll());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayDeque() {
+        ArrayDeque<String> deque = new ArrayDeque<>();
+        assertEquals(null, deque.pollFirst());
+        assertEquals(null, deque.pollLast());
+
+        deque.addLast("2a");
+        deque.addFirst("1a");
+        deque.addFirst("0a");
+        deque.addLast("3a");
+        assertEquals(4, deque.size());
+        assertEquals("0a", deque.peekFirst());
+        assertEquals("3a", deque.peekLast());
+
+        Object[] expected = new Object[ArrayDeque.INITIAL_CAPACITY];
+        expected[0] = "2a";
+        expected[1] = "3a";
+        expected[6] = "0a";
+        expected[7] = "1a";
+        assertArrayEquals(expected, deque.getBackingArray());
+
+        assertEquals("0a", deque.pollFirst());
+        assertEquals("3a", deque.pollLast());
+        assertEquals("1a", deque.pollFirst());
+        assertEquals("2a", deque.pollLast());
+        assertTrue(deque.isEmpty());
+        assertArrayEquals(new Object[ArrayDeque.INITIAL_CAPACITY],
+                deque.getBackingArray());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testArrayDequeShrink() {
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (int i = 0; i < 1000; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(1024, deque.getBackingArray().length);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((Integer) i, deque.pollFirst());
+        }
+        assertEquals(ArrayDeque.INITIAL_CAPACITY,
+                deque.getBackingArray().length);
+
+        // alternating around a boundary must not resize every time
+        for (int i = 0; i < 9; i++) {
+            deque.addFirst(i);
+        }
+        Object[] backingArray = deque.getBackingArray();
+        assertEquals(16, backingArray.length);
+        for (int i = 0; i < 100; i++) {
+            deque.pollLast();
+            deque.addFirst(i);
+        }
+        assertSame(backingArray, deque.getBackingArray());
+
+        for (int i = 0; i < 5; i++) {
+            deque.pollLast();
+        }
+        assertEquals(8, deque.getBackingArray().length);
+        assertEquals((Integer) 99, deque.peekFirst());
+        assertEquals((Integer) 96, deque.peekLast());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testSegmentedQueue() {
+        SegmentedQueue<Integer> queue = new SegmentedQueue<>();
+        assertTrue(queue.isEmpty());
+        assertEquals(null, queue.peek());
+
+        int count = SegmentedQueue.CHUNK_SIZE * 3 + 5;
+        for (int i = 0; i < count; i++) {
+            queue.enqueue(i);
+        }
+        assertEquals(count, queue.size());
+        assertEquals(4, queue.getChunkCount());
+        assertEquals((Integer) 0, queue.peek());
+
+        for (int i = 0; i < SegmentedQueue.CHUNK_SIZE * 2; i++) {
+            assertEquals((Integer) i, queue.dequeue());
+        }
+        assertEquals(2, queue.getChunkCount());
+
+        for (int i = SegmentedQueue.CHUNK_SIZE * 2; i < count; i++) {
+            assertEquals((Integer) i, queue.dequeue());
+        }
+        assertEquals(1, queue.getChunkCount());
+        assertTrue(queue.isEmpty());
+
+        try {
+            queue.dequeue();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT * 10)
+    public void testJournaledQueue() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            JournaledQueue<String> queue = new JournaledQueue<>(directory,
+                    JournaledQueue.STRING_CODEC, 72, 4);
+            assertTrue(queue.isEmpty());
+            assertEquals(null, queue.peek());
+
+            // 12-byte records, four per 72-byte segment after its header
+            for (int i = 0; i < 10; i++) {
+                queue.enqueue("record-" + i);
+            }
+            assertEquals(10, queue.size());
+            assertEquals(3, queue.getSegmentCount());
+            assertEquals("record-0", queue.peek());
+            for (int i = 0; i < 5; i++) {
+                assertEquals("record-" + i, queue.dequeue());
+            }
+            assertEquals(2, queue.getSegmentCount());
+            queue.close();
+
+            queue = new JournaledQueue<>(directory,
+                    JournaledQueue.STRING_CODEC, 72, 4);
+            assertEquals(5, queue.size());
+            assertEquals(2, queue.getSegmentCount());
+            queue.enqueue("record-10");
+            for (int i = 5; i <= 10; i++) {
+                assertEquals("record-" + i, queue.dequeue());
+            }
+            assertTrue(queue.isEmpty());
+            assertEquals(1, queue.getSegmentCount());
+
+            try {
+                queue.dequeue();
+                fail();
+            } catch (NoSuchElementException e) {
+                assertEquals(0, queue.size());
+            }
+            try {
+                queue.enqueue("a record that is far too long to fit into "
+                        + "any segment");
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertEquals(0, queue.size());
+            }
+
+            // 13-byte records now, three per segment, so the size has to
+            // survive reopening with segments in the middle
+            for (int i = 11; i < 21; i++) {
+                queue.enqueue("record-" + i);
+            }
+            assertEquals("record-11", queue.dequeue());
+            queue.close();
+            queue = new JournaledQueue<>(directory,
+                    JournaledQueue.STRING_CODEC, 72, 4);
+            assertEquals(9, queue.size());
+            assertEquals(4, queue.getSegmentCount());
+            for (int i = 12; i < 21; i++) {
+                assertEquals("record-" + i, queue.dequeue());
+            }
+            assertTrue(queue.isEmpty());
+            queue.close();
+            queue.close(); // closing twice has no effect
+            try {
+                queue.enqueue("record-21");
+                fail();
+            } catch (IllegalStateException e) {
+                // closed
+            }
+            try {
+                queue.size();
+                fail();
+            } catch (IllegalStateException e) {
+                // closed
+            }
+
+            // start over and corrupt the length of the only record
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            queue = new JournaledQueue<>(directory,
+                    JournaledQueue.STRING_CODEC, 72, 4);
+            queue.enqueue("record");
+            queue.close();
+            Path segment = directory.resolve(
+                    String.format("segment-%019d.dat", 0));
+            for (int length : new int[] {-1, 7, Integer.MAX_VALUE}) {
+                try (FileChannel channel = FileChannel.open(segment,
+                        StandardOpenOption.WRITE)) {
+                    ByteBuffer bytes = ByteBuffer.allocate(Integer.BYTES);
+                    bytes.putInt(0, length);
+                    channel.write(bytes, 24);
+                }
+                queue = new JournaledQueue<>(directory,
+                        JournaledQueue.STRING_CODEC, 72, 4);
+                assertEquals(1, queue.size());
+                try {
+                    queue.peek();
+                    fail();
+                } catch (UncheckedIOException e) {
+                    assertEquals(1, queue.size());
+                }
+                try {
+                    queue.dequeue();
+                    fail();
+                } catch (UncheckedIOException e) {
+                    assertEquals(1, queue.size());
+                }
+                queue.close();
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPrimitiveArrayStacks() {
+        LongArrayStack longStack = new LongArrayStack();
+        longStack.push(1L << 40);
+        longStack.pushAll(new long[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, 1, 9);
+        assertEquals(10, longStack.size());
+        assertEquals(18, longStack.getBackingArray().length);
+        assertEquals(9L, longStack.peek());
+        assertEquals(9L, longStack.pop());
+
+        long[] longs = new long[5];
+        assertEquals(5, longStack.drain(longs));
+        assertArrayEquals(new long[] {8, 7, 6, 5, 4}, longs);
+        assertEquals(4, longStack.drain(longs));
+        assertEquals(1L << 40, longs[3]);
+        assertTrue(longStack.isEmpty());
+        assertArrayEquals(new long[18], longStack.getBackingArray());
+
+        IntArrayStack intStack = new IntArrayStack();
+        intStack.pushAll(new int[] {1, 2, 3});
+        intStack.push(4);
+        assertEquals(4, intStack.pop());
+        int[] ints = new int[4];
+        assertEquals(3, intStack.drain(ints));
+        assertArrayEquals(new int[] {3, 2, 1, 0}, ints);
+
+        try {
+            intStack.peek();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertEquals(0, intStack.size());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPrimitiveArrayQueues() {
+        LongArrayQueue longQueue = new LongArrayQueue();
+        for (long i = 0; i < 7; i++) {
+            longQueue.enqueue(i);
+        }
+        for (long i = 0; i < 5; i++) {
+            assertEquals(i, longQueue.dequeue());
+        }
+        // wraps around the end of the backing array
+        longQueue.enqueueAll(new long[] {7, 8, 9, 10, 11});
+        assertEquals(7, longQueue.size());
+        assertEquals(9, longQueue.getBackingArray().length);
+        assertEquals(5L, longQueue.peek());
+
+        long[] longs = new long[6];
+        assertEquals(6, longQueue.drain(longs));
+        assertArrayEquals(new long[] {5, 6, 7, 8, 9, 10}, longs);
+        longQueue.enqueueAll(new long[] {0, 12, 13, 14, 15, 16, 17, 18, 19},
+                1, 8);
+        assertEquals(9, longQueue.size());
+        longQueue.enqueue(20);
+        assertEquals(18, longQueue.getBackingArray().length);
+        for (long i = 11; i <= 20; i++) {
+            assertEquals(i, longQueue.dequeue());
+        }
+        assertArrayEquals(new long[18], longQueue.getBackingArray());
+
+        IntArrayQueue intQueue = new IntArrayQueue();
+        intQueue.enqueueAll(new int[20]);
+        intQueue.enqueue(5);
+        int[] ints = new int[32];
+        assertEquals(21, intQueue.drain(ints));
+        assertEquals(5, ints[20]);
+
+        try {
+            intQueue.dequeue();
+            fail();
+        } catch (NoSuchElementException e) {
+            assertTrue(intQueue.isEmpty());
+        }
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testWorkStealingDeque() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        assertEquals(null, deque.pop());
+        assertEquals(null, deque.steal());
+
+        for (int i = 0; i < 40; i++) {
+            deque.push(i);
+        }
+        assertEquals(40, deque.size());
+        assertEquals(64, deque.capacity());
+
+        // the owner works LIFO, thieves take FIFO
+        assertEquals((Integer) 39, deque.pop());
+        assertEquals((Integer) 0, deque.steal());
+        assertEquals((Integer) 1, deque.steal());
+        assertEquals((Integer) 38, deque.pop());
+        for (int i = 37; i >= 2; i--) {
+            assertEquals((Integer) i, deque.pop());
+        }
+        assertTrue(deque.isEmpty());
+        assertEquals(null, deque.pop());
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testWorkStealingDequeConcurrent()
+        throws InterruptedException {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>();
+        int total = 50000;
+        AtomicIntegerArray taken = new AtomicIntegerArray(total);
+        AtomicInteger done = new AtomicInteger();
+
+        Thread[] thieves = new Thread[3];
+        for (int t = 0; t < thieves.length; t++) {
+            thieves[t] = new Thread(() -> {
+                while (done.get() < total) {
+                    Integer data = deque.steal();
+                    if (data == null) {
+                        Thread.yield();
+                    } else {
+                        taken.incrementAndGet(data);
+                        done.incrementAndGet();
+                    }
+                }
+            });
+            thieves[t].start();
+        }
+
+        for (int i = 0; i < total; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                Integer data = deque.pop();
+                if (data != null) {
+                    taken.incrementAndGet(data);
+                    done.incrementAndGet();
+                }
+            }
+        }
+        for (Integer data = deque.pop(); data != null; data = deque.pop()) {
+            taken.incrementAndGet(data);
+            done.incrementAndGet();
+        }
+        for (Thread thief : thieves) {
+            thief.join();
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, taken.get(i));
+        }
+    }
+
+    @Test(timeout = TIMEOUT * 25)
+    public void testWorkStealingExecutor() throws InterruptedException {
+        WorkStealingExecutor executor = new WorkStealingExecutor(3);
+        AtomicLong leaves = new AtomicLong();
+        AtomicInteger pending = new AtomicInteger(1);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        executor.execute(() -> spawnTree(executor, 0, leaves, pending,
+                finished));
+
+        assertTrue(finished.await(4, TimeUnit.SECONDS));
+        assertEquals(1 << 14, leaves.get());
+
+        AtomicReference<Throwable> closedFromWorker = new AtomicReference<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                executor.close();
+            } catch (IllegalStateException e) {
+                closedFromWorker.set(e);
+            }
+            closed.countDown();
+        });
+        assertTrue(closed.await(1, TimeUnit.SECONDS));
+        assertTrue(closedFromWorker.get() instanceof IllegalStateException);
+
+        // submissions racing close are either rejected or run
+        AtomicInteger ran = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        Thread submitter = new Thread(() -> {
+            try {
+                while (true) {
+                    executor.execute(ran::incrementAndGet);
+                    accepted.incrementAndGet();
+                    Thread.yield();
+                }
+            } catch (IllegalStateException e) {
+                // shut down
+            }
+        });
+        submitter.start();
+        Thread.sleep(5);
+        executor.close();
+        submitter.join();
+        assertEquals(accepted.get(), ran.get());
+
+        try {
+            executor.execute(() -> { });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(3, executor.getParallelism());
+        }
+    }
+
+    /**
+     * Forks a binary tree of tasks 14 levels deep, counting the leaves and
+     * opening the latch once every task has run.
+     *
+     * @param executor the executor to fork on
+     * @param level the depth of this task
+     * @param leaves the counter of leaf tasks
+     * @param pending the number of tasks not yet finished
+     * @param finished the latch to open at the end
+     */
+    private static void spawnTree(WorkStealingExecutor executor, int level,
+                                  AtomicLong leaves, AtomicInteger pending,
+                                  CountDownLatch finished) {
+        if (level == 14) {
+            leaves.incrementAndGet();
+        } else {
+            pending.addAndGet(2);
+            executor.execute(() -> spawnTree(executor, level + 1, leaves,
+                    pending, finished));
+            executor.execute(() -> spawnTree(executor, level + 1, leaves,
+                    pending, finished));
+        }
+        if (pending.decrementAndGet() == 0) {
+            finished.countDown();
+        }
+    }
+
+    @Test(timeout = TIMEOUT * 5)
+    public void testTimingWheel() {
+        TimingWheel<String> wheel = new TimingWheel<>();
+        List<String> expired = new ArrayList<>();
+
+        TimingWheel<String>.Timeout now = wheel.schedule("0a", 0);
+        TimingWheel<String>.Timeout soon = wheel.schedule("1a", 3);
+        TimingWheel<String>.Timeout later = wheel.schedule("2a", 100);
+        TimingWheel<String>.Timeout cancelled = wheel.schedule("3a", 5000);
+        TimingWheel<String>.Timeout far = wheel.schedule("4a", 300000);
+        assertEquals(5, wheel.size());
+        assertEquals(1, now.getDeadline());
+
+        assertEquals(1, wheel.tick(expired::add));
+        assertTrue(now.isExpired());
+        assertEquals(0, wheel.advance(1, expired::add));
+        assertEquals(1, wheel.tick(expired::add));
+        assertEquals(Arrays.asList("0a", "1a"), expired);
+        assertFalse(soon.cancel());
+
+        assertTrue(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertFalse(cancelled.cancel());
+        assertEquals(2, wheel.size());
+
+        // cascades down from the higher levels and expires on time
+        assertEquals(0, wheel.advance(96, expired::add));
+        assertFalse(later.isExpired());
+        assertEquals(1, wheel.tick(expired::add));
+        assertTrue(later.isExpired());
+        assertEquals(100, wheel.getCurrentTick());
+
+        assertEquals(0, wheel.advance(299899, expired::add));
+        assertEquals(1, wheel.tick(expired::add));
+        assertEquals(Arrays.asList("0a", "1a", "2a", "4a"), expired);
+        assertTrue(far.isExpired());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test(timeout = TIMEOUT)
+    public void testPooledStackAndQueue() {
+        PooledLinkedStack<Integer> stack = new PooledLinkedStack<>(3);
+        PooledLinkedQueue<Integer> queue = new PooledLinkedQueue<>(3);
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+            queue.enqueue(i);
+            queue.enqueue(i + 1);
+            assertEquals((Integer) i, stack.pop());
+            assertEquals((Integer) i, queue.dequeue());
+            assertEquals((Integer) (i + 1), queue.dequeue());
+        }
+        assertTrue(stack.isEmpty());
+        assertTrue(queue.isEmpty());
+        assertEquals(null, queue.peek());
+
+        // the first round allocates, every later one reuses
+        assertEquals(1, stack.getPool().getAllocations());
+        assertEquals(99, stack.getPool().getReuses());
+        assertEquals(2, queue.getPool().getAllocations());
+        assertEquals(198, queue.getPool().getReuses());
+
+        // the pool keeps at most its capacity of free nodes
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        assertEquals(3, stack.getPool().size());
+        assertEquals(5, stack.getPool().getAllocations());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,272 @@
+import java.util.function.Consumer;
+
+/**
+ * Your implementation of a hierarchical timing wheel.
+ *
+ * Time is counted in ticks. The wheel has {@code LEVELS} levels of
+ * {@code SLOTS} buckets each, and every bucket is a LinkedQueue of
+ * timeouts. Level 0 has one bucket per tick for the next SLOTS ticks,
+ * level 1 one bucket per SLOTS ticks, and so on, so a timeout is placed
+ * by looking at the bits of its deadline and scheduling is O(1) no matter
+ * how many timeouts are pending.
+ *
+ * Each tick expires the whole level 0 bucket for that tick as one batch.
+ * Whenever the current tick crosses the boundary of a higher level's
+ * bucket, that bucket is emptied and its timeouts are placed again
+ * relative to the new tick, which moves them down to finer levels. This
+ * cascading touches every timeout at most once per level.
+ *
+ * Cancelling is O(1) too, because it is lazy: the timeout is only
+ * marked, and is dropped instead of expired or cascaded when its bucket
+ * comes up. Until then it stays in its bucket and keeps its task
+ * reachable, so a cancelled timeout with a far deadline holds on to its
+ * memory until the wheel gets round to that deadline's bucket.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class TimingWheel<T> {
+
+    /**
+     * The number of bits of a tick each level covers.
+     */
+    public static final int SLOT_BITS = 6;
+
+    /**
+     * The number of buckets on each level.
+     */
+    public static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * The number of levels, enough to place any non-negative long delay.
+     */
+    public static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    /**
+     * A scheduled task that can be cancelled until it expires.
+     */
+    public final class Timeout {
+        private final T task;
+        private final long deadline;
+        private int state = PENDING;
+
+        /**
+         * Creates a pending timeout.
+         *
+         * @param task the task to hand out on expiry
+         * @param deadline the tick at which the timeout expires
+         */
+        private Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout so that its task is never handed out.
+         *
+         * The timeout is only marked here. It is removed from its bucket,
+         * and its task freed, when the wheel next empties that bucket.
+         *
+         * Must be O(1).
+         *
+         * @return true if the timeout was pending; false if it had already
+         * expired or been cancelled
+         */
+        public boolean cancel() {
+            if (state != PENDING) return false;
+            state = CANCELLED;
+            size--;
+            return true;
+        }
+
+        /**
+         * Returns whether the timeout has been cancelled.
+         *
+         * @return true if cancelled; false otherwise
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Returns whether the timeout has expired.
+         *
+         * @return true if expired; false otherwise
+         */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        /**
+         * Returns the tick at which the timeout expires.
+         *
+         * @return the deadline tick
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Returns the scheduled task.
+         *
+         * @return the task
+         */
+        public T getTask() {
+            return task;
+        }
+    }
+
+    private final LinkedQueue<Timeout>[][] buckets = newBuckets();
+    private long now;
+    private int size;
+
+    /**
+     * Creates the table of buckets, all null until first used. Arrays of a
+     * generic type cannot be created directly, so the cast is done here.
+     *
+     * @param <E> the type of data in the buckets
+     * @return an empty LEVELS by SLOTS table
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> LinkedQueue<E>[][] newBuckets() {
+        return (LinkedQueue<E>[][]) new LinkedQueue<?>[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedules the task to expire delay ticks from now. A delay of 0 is
+     * treated as 1, since the current tick has already been expired.
+     *
+     * Must be O(1).
+     *
+     * @param task the task to hand out on expiry
+     * @param delay the number of ticks until expiry
+     * @return the timeout, which can be used to cancel it
+     * @throws IllegalArgumentException if task is null, delay is negative,
+     * or the deadline would overflow
+     */
+    public Timeout schedule(T task, long delay) {
+        if (task == null || delay < 0 || delay > Long.MAX_VALUE - now) {
+            throw new IllegalArgumentException();
+        }
+
+        Timeout timeout = new Timeout(task, now + Math.max(1, delay));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Puts a timeout into the bucket matching its deadline relative to the
+     * current tick. The level is the first whose range covers the delay,
+     * and the slot is that level's bits of the deadline.
+     *
+     * @param timeout the timeout to place
+     */
+    private void place(Timeout timeout) {
+        long delay = timeout.deadline - now;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << SLOT_BITS * (level + 1)) {
+            level++;
+        }
+        int slot =
+            (int) (timeout.deadline >>> SLOT_BITS * level) & (SLOTS - 1);
+
+        LinkedQueue<Timeout> bucket = buckets[level][slot];
+        if (bucket == null) {
+            bucket = new LinkedQueue<>();
+            buckets[level][slot] = bucket;
+        }
+        bucket.enqueue(timeout);
+    }
+
+    /**
+     * Advances the wheel by one tick, cascading the higher-level buckets
+     * whose span starts at the new tick and then expiring every timeout
+     * due at it.
+     *
+     * Must be O(1) plus the number of timeouts expired, cascaded or
+     * dropped.
+     *
+     * @param expired the consumer receiving the expired tasks
+     * @return the number of tasks expired
+     * @throws IllegalArgumentException if expired is null
+     */
+    public int tick(Consumer<? super T> expired) {
+        if (expired == null) throw new IllegalArgumentException();
+
+        now++;
+        int top = 0;
+        while (top < LEVELS - 1
+               && (now & (1L << SLOT_BITS * (top + 1)) - 1) == 0) {
+            top++;
+        }
+        // cascade coarse levels first so their timeouts can fall further
+        for (int level = top; level >= 1; level--) {
+            LinkedQueue<Timeout> bucket =
+                buckets[level][(int) (now >>> SLOT_BITS * level) & (SLOTS - 1)];
+            while (bucket != null && bucket.size() > 0) {
+                Timeout timeout = bucket.dequeue();
+                if (timeout.state == PENDING) place(timeout);
+            }
+        }
+
+        // a task scheduled from expired is at least one tick away, so it
+        // never lands in the bucket being emptied
+        int count = 0;
+        LinkedQueue<Timeout> bucket = buckets[0][(int) now & (SLOTS - 1)];
+        while (bucket != null && bucket.size() > 0) {
+            Timeout timeout = bucket.dequeue();
+            if (timeout.state == PENDING) {
+                timeout.state = EXPIRED;
+                size--;
+                count++;
+                expired.accept(timeout.task);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Advances the wheel by the given number of ticks.
+     *
+     * @param ticks the number of ticks to advance by
+     * @param expired the consumer receiving the expired tasks
+     * @return the number of tasks expired
+     * @throws IllegalArgumentException if ticks is negative or expired is
+     * null
+     */
+    public int advance(long ticks, Consumer<? super T> expired) {
+        if (ticks < 0 || expired == null) throw new IllegalArgumentException();
+
+        int count = 0;
+        for (long i = 0; i < ticks; i++) {
+            count += tick(expired);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the current tick.
+     *
+     * @return the number of ticks the wheel has advanced
+     */
+    public long getCurrentTick() {
+        return now;
+    }
+
+    /**
+     * Returns the number of pending timeouts, i.e. those neither expired
+     * nor cancelled.
+     *
+     * @return the number of pending timeouts
+     */
+    public int size() {
+        return size;
+    }
+
+}
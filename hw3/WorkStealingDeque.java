@@ -0,0 +1,158 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Your implementation of a Chase-Lev work-stealing deque.
+ *
+ * One thread owns the deque and pushes and pops at the bottom, last in
+ * first out, like ArrayStack. Any number of other threads may steal from
+ * the top, first in first out, like ArrayQueue. The owner only has to CAS
+ * when it takes the very last element and could race a thief for it, so
+ * in the common case its push and pop are as cheap as a plain stack's.
+ *
+ * The elements live in a circular array indexed by ever-growing top and
+ * bottom counters, masked down to the array length. When the owner fills
+ * it, the live elements are copied into an array twice as long, and the
+ * old array is left untouched, so a thief still reading it sees the same
+ * elements.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class WorkStealingDeque<T> {
+
+    /**
+     * The initial capacity of the deque, a power of two.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    private final AtomicLong top = new AtomicLong();
+    private final AtomicLong bottom = new AtomicLong();
+    private volatile AtomicReferenceArray<T> array =
+        new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /**
+     * Adds the given data to the bottom of the deque. Must only be called
+     * by the owner thread.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add
+     * @throws IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+        if (data == null) throw new IllegalArgumentException();
+
+        long b = bottom.get();
+        long t = top.get();
+        AtomicReferenceArray<T> a = array;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.lazySet((int) b & (a.length() - 1), data);
+        bottom.lazySet(b + 1);
+    }
+
+    /**
+     * Copies the elements between top and bottom into an array twice as
+     * long and publishes it.
+     *
+     * @param old the current array
+     * @param t the top counter
+     * @param b the bottom counter
+     * @return the new array
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> old, long t,
+                                         long b) {
+        AtomicReferenceArray<T> a =
+            new AtomicReferenceArray<>(old.length() * 2);
+        for (long i = t; i < b; i++) {
+            a.lazySet((int) i & (a.length() - 1),
+                    old.get((int) i & (old.length() - 1)));
+        }
+        array = a;
+        return a;
+    }
+
+    /**
+     * Removes and returns the data at the bottom of the deque, i.e. the
+     * most recently pushed. Must only be called by the owner thread.
+     *
+     * Must be O(1).
+     *
+     * @return the data from the bottom, or null if the deque is empty
+     */
+    public T pop() {
+        long b = bottom.get() - 1;
+        AtomicReferenceArray<T> a = array;
+        // claim the slot before looking at top, so a thief sees the claim
+        bottom.set(b);
+        long t = top.get();
+        if (t > b) {
+            bottom.set(b + 1);
+            return null;
+        }
+
+        T data = a.get((int) b & (a.length() - 1));
+        if (t < b) {
+            // no thief can reach this slot any more
+            a.lazySet((int) b & (a.length() - 1), null);
+        } else {
+            // last element: race the thieves for it
+            if (!top.compareAndSet(t, t + 1)) data = null;
+            bottom.set(b + 1);
+        }
+        return data;
+    }
+
+    /**
+     * Removes and returns the data at the top of the deque, i.e. the least
+     * recently pushed. May be called by any thread.
+     *
+     * Lock-free and O(1).
+     *
+     * @return the data from the top, or null if the deque was empty or
+     * another thread took the element first
+     */
+    public T steal() {
+        long t = top.get();
+        long b = bottom.get();
+        if (t >= b) return null;
+
+        AtomicReferenceArray<T> a = array;
+        T data = a.get((int) t & (a.length() - 1));
+        if (!top.compareAndSet(t, t + 1)) return null;
+        return data;
+    }
+
+    /**
+     * Returns a boolean value representing whether or not the deque is
+     * empty. Since other threads may be stealing, this is only a snapshot.
+     *
+     * @return true if empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return top.get() >= bottom.get();
+    }
+
+    /**
+     * Returns the number of elements in the deque. Since other threads may
+     * be stealing, this is only a snapshot.
+     *
+     * @return number of items in the deque
+     */
+    public int size() {
+        return (int) Math.max(0, bottom.get() - top.get());
+    }
+
+    /**
+     * Returns the length of the current backing array.
+     *
+     * @return the capacity of the deque
+     */
+    public int capacity() {
+        return array.length();
+    }
+
+}
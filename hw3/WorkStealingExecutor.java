@@ -0,0 +1,223 @@
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Your implementation of a small work-stealing executor.
+ *
+ * Every worker thread owns a WorkStealingDeque. A task submitted from a
+ * worker, e.g. a subtask forked by a running task, is pushed onto that
+ * worker's own deque, and the worker keeps popping its newest task, so
+ * recursive work runs depth-first with no contention. Tasks submitted from
+ * outside go to a shared LockFreeQueue. A worker whose deque is empty takes
+ * from the shared queue, and failing that steals the oldest task of a
+ * random other worker, which tends to be the biggest piece of work left.
+ *
+ * Idle workers park for a short while between rounds of looking for work,
+ * and are woken early when a task is submitted.
+ *
+ * @author Abdullojon Yusupov
+ * @userid abdullojony
+ * @version 1.0
+ */
+public class WorkStealingExecutor implements Executor, AutoCloseable {
+
+    // How long an idle worker parks before looking for work again.
+    private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    /**
+     * A worker thread and the deque it owns.
+     */
+    private class Worker extends Thread {
+        private final WorkStealingDeque<Runnable> deque =
+            new WorkStealingDeque<>();
+        private final int index;
+
+        /**
+         * Creates the worker with the given index.
+         *
+         * @param index the index of the worker
+         */
+        Worker(int index) {
+            super("work-stealing-worker-" + index);
+            this.index = index;
+            setDaemon(true);
+        }
+
+        /**
+         * Returns the executor the worker belongs to.
+         *
+         * @return the owning executor
+         */
+        WorkStealingExecutor owner() {
+            return WorkStealingExecutor.this;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task = deque.pop();
+                if (task == null) task = submissions.poll();
+                if (task == null) task = steal(index);
+                if (task != null) {
+                    runTask(task);
+                } else if (shutdown && submitting.get() == 0
+                           && submissions.isEmpty()) {
+                    // a submission that got past the shutdown check has
+                    // been counted, and is in the queue once uncounted
+                    return;
+                } else {
+                    idle.incrementAndGet();
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                    idle.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private final Worker[] workers;
+    private final LockFreeQueue<Runnable> submissions = new LockFreeQueue<>();
+    private final AtomicInteger idle = new AtomicInteger();
+    // outside submissions between their shutdown check and their enqueue
+    private final AtomicInteger submitting = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates and starts an executor with one worker per available
+     * processor.
+     */
+    public WorkStealingExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates and starts an executor with the given number of workers.
+     *
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public WorkStealingExecutor(int parallelism) {
+        if (parallelism < 1) throw new IllegalArgumentException();
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Runs the given task on one of the workers. Called from a worker of
+     * this executor, the task goes onto that worker's own deque; otherwise
+     * it goes to the shared queue.
+     *
+     * Once the executor is shut down, only its own workers may still
+     * submit, so that tasks already running can finish their subtasks.
+     *
+     * @param task the task to run
+     * @throws IllegalArgumentException if task is null
+     * @throws IllegalStateException if the executor has been shut down and
+     * the caller is not one of its workers
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) throw new IllegalArgumentException();
+
+        Thread current = Thread.currentThread();
+        if (current instanceof Worker && ((Worker) current).owner() == this) {
+            ((Worker) current).deque.push(task);
+        } else {
+            submitting.incrementAndGet();
+            try {
+                if (shutdown) throw new IllegalStateException();
+                submissions.enqueue(task);
+            } finally {
+                submitting.decrementAndGet();
+            }
+        }
+        if (idle.get() > 0) {
+            int i = ThreadLocalRandom.current().nextInt(workers.length);
+            LockSupport.unpark(workers[i]);
+        }
+    }
+
+    /**
+     * Steals a task from the other workers, starting at a random one.
+     *
+     * @param thief the index of the worker looking for work
+     * @return a stolen task, or null if none was found
+     */
+    private Runnable steal(int thief) {
+        int start = ThreadLocalRandom.current().nextInt(workers.length);
+        for (int i = 0; i < workers.length; i++) {
+            int victim = (start + i) % workers.length;
+            if (victim == thief) continue;
+            Runnable task = workers[victim].deque.steal();
+            if (task != null) return task;
+        }
+        return null;
+    }
+
+    /**
+     * Runs a task, reporting anything it throws to the worker's uncaught
+     * exception handler so the worker keeps going.
+     *
+     * @param task the task to run
+     */
+    private static void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current,
+                    e);
+        }
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the parallelism of the executor
+     */
+    public int getParallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Stops accepting tasks, lets the workers finish every task already
+     * submitted, and waits for them to exit.
+     *
+     * If the calling thread is interrupted while waiting, it keeps waiting
+     * and its interrupt status is set again before returning.
+     *
+     * @throws IllegalStateException if called from one of the executor's
+     * own workers, which would wait for itself forever
+     */
+    @Override
+    public void close() {
+        Thread current = Thread.currentThread();
+        if (current instanceof Worker && ((Worker) current).owner() == this) {
+            throw new IllegalStateException();
+        }
+
+        shutdown = true;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        boolean interrupted = false;
+        for (Worker worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) current.interrupt();
+    }
+
+}